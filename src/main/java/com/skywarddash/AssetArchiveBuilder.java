@@ -0,0 +1,63 @@
+package com.skywarddash;
+
+import com.skywarddash.utils.AssetArchive;
+import com.skywarddash.utils.AssetManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Packs every file AssetManager loads into one archive, so the game opens and maps a single file
+// at startup instead of reading loose images and sounds out of the jar. Runs at prepare-package,
+// and the jar leaves the loose assets out, e.g.
+//   --resources src/main/resources --out target/assets.pak
+public class AssetArchiveBuilder {
+    public static void main(String[] arg) {
+        File resources = new File("src/main/resources");
+        File out = new File("target", AssetArchive.FILE_NAME);
+
+        try {
+            for (int i = 0; i < arg.length; i++) {
+                switch (arg[i]) {
+                    case "--resources":
+                        resources = new File(arg[++i]);
+                        break;
+                    case "--out":
+                        out = new File(arg[++i]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + arg[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: AssetArchiveBuilder [--resources DIR] [--out FILE]");
+            System.exit(2);
+            return;
+        }
+
+        // A missing file isn't fatal: the game draws a fallback for it, same as when running loose
+        List<String> paths = new ArrayList<>();
+        for (String path : AssetManager.getReferencedFiles()) {
+            if (new File(resources, path).isFile()) {
+                paths.add(path);
+            } else {
+                System.err.println("Skipping missing asset " + path);
+            }
+        }
+
+        try {
+            File parent = out.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            AssetArchive.write(resources, paths.toArray(new String[0]), out);
+        } catch (IOException e) {
+            System.err.println("Failed to write " + out + ": " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        System.out.printf("Packed %d assets into %s (%d bytes)%n", paths.size(), out, out.length());
+    }
+}
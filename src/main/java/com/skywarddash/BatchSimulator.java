@@ -0,0 +1,163 @@
+package com.skywarddash;
+
+import com.skywarddash.batch.BatchRunner;
+import com.skywarddash.batch.GreedyBot;
+import com.skywarddash.batch.ResultWriter;
+import com.skywarddash.batch.RunResult;
+import com.skywarddash.batch.WallJumperBot;
+import com.skywarddash.simulation.InputSource;
+import com.skywarddash.simulation.World;
+import com.skywarddash.simulation.WorldConfig;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.function.Function;
+
+// Headless entry point: plays many seeded games with a bot on all cores and reports how far they got.
+// Used for difficulty tuning, e.g.
+//   --runs 2000 --floor-speed 30 --spacing 150 230 --out sweep.json
+public class BatchSimulator {
+    public static void main(String[] arg) {
+        WorldConfig config = new WorldConfig();
+        int runs = 1000;
+        long firstSeed = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        float maxGameTime = 600f;
+        String policyName = "greedy";
+        String outPath = null;
+
+        try {
+            for (int i = 0; i < arg.length; i++) {
+                switch (arg[i]) {
+                    case "--runs":
+                        runs = Integer.parseInt(arg[++i]);
+                        break;
+                    case "--seed":
+                        firstSeed = Long.parseLong(arg[++i]);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(arg[++i]);
+                        break;
+                    case "--tick-rate":
+                        config.timeStep = 1.0f / Float.parseFloat(arg[++i]);
+                        break;
+                    case "--max-time":
+                        maxGameTime = Float.parseFloat(arg[++i]);
+                        break;
+                    case "--policy":
+                        policyName = arg[++i];
+                        break;
+                    case "--out":
+                        outPath = arg[++i];
+                        break;
+                    case "--floor-speed":
+                        config.risingFloorSpeed = Float.parseFloat(arg[++i]);
+                        break;
+                    case "--grace":
+                        config.floorGracePeriod = Float.parseFloat(arg[++i]);
+                        break;
+                    case "--spacing":
+                        config.minPlatformSpacingY = Float.parseFloat(arg[++i]);
+                        config.maxPlatformSpacingY = Float.parseFloat(arg[++i]);
+                        break;
+                    case "--special-chance":
+                        config.specialPlatformChance = parseFloats(arg[++i], 4);
+                        break;
+                    case "--type-weights":
+                        config.specialTypeWeights = parseFloats(arg[++i], 5);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + arg[i]);
+                }
+            }
+            if (runs < 1) {
+                throw new IllegalArgumentException("--runs must be at least 1");
+            }
+            if (threads < 1) {
+                throw new IllegalArgumentException("--threads must be at least 1");
+            }
+            if (!(config.timeStep > 0) || Float.isInfinite(config.timeStep)) {
+                throw new IllegalArgumentException("--tick-rate must be positive");
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(1);
+            return;
+        }
+
+        Function<World, InputSource> policy;
+        if ("greedy".equals(policyName)) {
+            policy = GreedyBot::new;
+        } else if ("walljumper".equals(policyName)) {
+            policy = WallJumperBot::new;
+        } else {
+            System.err.println("Unknown policy " + policyName);
+            printUsage();
+            System.exit(1);
+            return;
+        }
+
+        System.err.println("Simulating " + runs + " runs on " + threads + " threads, policy " + policyName
+                + ", " + config.describe());
+
+        long start = System.nanoTime();
+        RunResult[] results = new BatchRunner(config, policy, maxGameTime).runAll(firstSeed, runs, threads);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        ResultWriter writer = new ResultWriter(results);
+        try {
+            if (outPath == null) {
+                PrintWriter out = new PrintWriter(new OutputStreamWriter(System.out));
+                writer.writeCsv(out);
+                out.flush();
+            } else {
+                try (PrintWriter out = new PrintWriter(new FileWriter(outPath))) {
+                    if (outPath.endsWith(".json")) {
+                        writer.writeJson(out, config);
+                    } else {
+                        writer.writeCsv(out);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write results: " + e.getMessage());
+            System.exit(1);
+        }
+
+        PrintWriter console = new PrintWriter(new OutputStreamWriter(System.err));
+        writer.writeSummary(console);
+        console.println(String.format("%.1f s, %.0f runs/min", seconds, runs / seconds * 60));
+        console.flush();
+    }
+
+    private static float[] parseFloats(String list, int count) {
+        String[] parts = list.split(",");
+        if (parts.length != count) {
+            throw new IllegalArgumentException("Expected " + count + " comma separated values, got " + list);
+        }
+        float[] values = new float[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = Float.parseFloat(parts[i].trim());
+        }
+        return values;
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: BatchSimulator [options]\n"
+                + "  --runs N                 games to play (1000)\n"
+                + "  --seed S                 seed of the first game, the rest count up (1)\n"
+                + "  --threads N              worker threads (all cores)\n"
+                + "  --tick-rate HZ           simulation tick rate\n"
+                + "  --max-time SECONDS       stop a game after this much game time (600)\n"
+                + "  --policy greedy|walljumper\n"
+                + "  --out FILE               .csv or .json, CSV to stdout if omitted\n"
+                + "  --floor-speed PX         rising floor speed\n"
+                + "  --grace SECONDS          delay before the floor starts rising\n"
+                + "  --spacing MIN MAX        vertical platform spacing\n"
+                + "  --special-chance a,b,c,d special platform chance per difficulty tier\n"
+                + "  --type-weights b,m,br,i,f  bouncy, moving, breakable, icy, falling weights");
+    }
+}
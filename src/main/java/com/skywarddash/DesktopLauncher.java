@@ -2,11 +2,48 @@ package com.skywarddash;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.skywarddash.replay.Replay;
+import com.skywarddash.utils.Constants;
+
+import java.io.File;
+import java.io.IOException;
 
 public class DesktopLauncher {
     public static void main(String[] arg) {
+        SkywardDashGame game = new SkywardDashGame();
+
+        // Command line options
+        try {
+            for (int i = 0; i < arg.length; i++) {
+                if ("--tick-rate".equals(arg[i]) && i + 1 < arg.length) {
+                    game.simulationTickRate = Float.parseFloat(arg[++i]);
+                    if (!(game.simulationTickRate > 0) || Float.isInfinite(game.simulationTickRate)) {
+                        throw new IllegalArgumentException("--tick-rate must be positive");
+                    }
+                } else if ("--seed".equals(arg[i]) && i + 1 < arg.length) {
+                    game.fixedSeed = Long.parseLong(arg[++i]);
+                } else if ("--record".equals(arg[i]) && i + 1 < arg.length) {
+                    game.recordReplayPath = arg[++i];
+                } else if ("--replay".equals(arg[i]) && i + 1 < arg.length) {
+                    String path = arg[++i];
+                    try {
+                        game.replay = Replay.load(new File(path));
+                    } catch (IOException e) {
+                        System.err.println("Could not load replay " + path + ": " + e.getMessage());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(1);
+            return;
+        }
+
         Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
-        config.setForegroundFPS(60);
+        // Simulation runs on a fixed tick, so rendering can follow the display instead of a 60 FPS cap
+        config.useVsync(true);
+        config.setForegroundFPS(0);
         config.setTitle("Skyward Dash");
 
         // Enable fullscreen mode
@@ -17,6 +54,14 @@ public class DesktopLauncher {
         // config.setWindowedMode(1280, 720);
         // config.setWindowIcon("assets/images/icon.png"); // Icon disabled for now
 
-        new Lwjgl3Application(new SkywardDashGame(), config);
+        new Lwjgl3Application(game, config);
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: SkywardDash [options]\n"
+                + "  --tick-rate HZ   simulation tick rate (" + (int) Constants.SIMULATION_TICK_RATE + ")\n"
+                + "  --seed S         play the tower of this seed every run\n"
+                + "  --record FILE    record the runs to this replay file\n"
+                + "  --replay FILE    play back a recorded replay");
     }
-}
\ No newline at end of file
+}
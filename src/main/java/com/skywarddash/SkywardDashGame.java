@@ -5,14 +5,20 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.ScreenUtils;
+import com.skywarddash.replay.Replay;
 import com.skywarddash.screens.SplashScreen;
 import com.skywarddash.utils.AssetManager;
+import com.skywarddash.utils.Constants;
 
 public class SkywardDashGame extends Game {
     public SpriteBatch batch;
     public ShapeRenderer shapeRenderer;
     public BitmapFont font;
     public AssetManager assetManager;
+    public float simulationTickRate = Constants.SIMULATION_TICK_RATE;
+    public Long fixedSeed; // World seed from the command line, null for a fresh tower every run
+    public Replay replay; // Played back instead of keyboard input when set
+    public String recordReplayPath; // Every run is recorded to this file when set
 
     @Override
     public void create() {
@@ -32,6 +38,7 @@ public class SkywardDashGame extends Game {
 
     @Override
     public void dispose() {
+        super.dispose(); // Hides the current screen, which unloads its assets
         batch.dispose();
         shapeRenderer.dispose();
         font.dispose();
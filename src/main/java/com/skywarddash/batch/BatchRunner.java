@@ -0,0 +1,87 @@
+package com.skywarddash.batch;
+
+import com.skywarddash.simulation.InputSource;
+import com.skywarddash.simulation.PlayerInput;
+import com.skywarddash.simulation.World;
+import com.skywarddash.simulation.WorldConfig;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+// Plays many seeded games headless, spread over a fork-join pool. Every run owns its World,
+// so runs share nothing but the (read-only) config.
+public class BatchRunner {
+    private final WorldConfig config;
+    private final Function<World, InputSource> policy;
+    private final float maxGameTime;
+
+    // Runs step by config.timeStep
+    public BatchRunner(WorldConfig config, Function<World, InputSource> policy, float maxGameTime) {
+        this.config = config;
+        this.policy = policy;
+        this.maxGameTime = maxGameTime;
+    }
+
+    // Runs seeds firstSeed .. firstSeed + runs - 1
+    public RunResult[] runAll(long firstSeed, int runs, int threads) {
+        RunResult[] results = new RunResult[runs];
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new RunRange(firstSeed, results, 0, runs));
+        } finally {
+            pool.shutdown();
+        }
+        return results;
+    }
+
+    public RunResult run(long seed) {
+        World world = new World(seed, config);
+        InputSource input = policy.apply(world);
+        PlayerInput playerInput = new PlayerInput();
+        float timeStep = config.timeStep;
+        int maxTicks = (int) Math.ceil(maxGameTime / timeStep);
+        float maxHeight = world.getPlayer().getPosition().y;
+
+        for (int tick = 0; tick < maxTicks && !world.isGameOver(); tick++) {
+            input.readInput(playerInput);
+            world.step(playerInput, timeStep);
+            maxHeight = Math.max(maxHeight, world.getPlayer().getPosition().y);
+        }
+
+        String deathCause = world.isGameOver() ? world.getDeathCause().name() : "TIMEOUT";
+        return new RunResult(seed, world.getPlatformGenerator().getCurrentFloor(), world.getScoreSystem().getScore(),
+                deathCause, world.getGameTime(), maxHeight);
+    }
+
+    // Splits the seed range in halves until each task is a single game
+    private class RunRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long firstSeed;
+        private final RunResult[] results;
+        private final int from;
+        private final int to;
+
+        RunRange(long firstSeed, RunResult[] results, int from, int to) {
+            this.firstSeed = firstSeed;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    results[from] = run(firstSeed + from);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new RunRange(firstSeed, results, from, middle),
+                    new RunRange(firstSeed, results, middle, to));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.skywarddash.batch;
+
+import com.badlogic.gdx.utils.Array;
+import com.skywarddash.entities.Platform;
+import com.skywarddash.entities.Player;
+import com.skywarddash.simulation.InputSource;
+import com.skywarddash.simulation.PlayerInput;
+import com.skywarddash.simulation.World;
+import com.skywarddash.utils.Constants;
+
+// Climbs by steering under the lowest platform above its feet and jumping as soon as it can,
+// spending the air jump on the way down. Plays like a steady, unspectacular human.
+public class GreedyBot implements InputSource {
+    private static final float MIN_CLIMB = 20f; // Ignore platforms the feet are already level with
+    private static final float STEER_DEAD_ZONE = 20f;
+
+    private final World world;
+    private final Array<Platform> candidates = new Array<>(false, 16);
+
+    public GreedyBot(World world) {
+        this.world = world;
+    }
+
+    @Override
+    public void poll() {
+    }
+
+    @Override
+    public void readInput(PlayerInput input) {
+        Player player = world.getPlayer();
+        float feetY = player.getPosition().y;
+        float centerX = player.getPosition().x + player.getBounds().width / 2;
+
+        candidates.clear();
+        world.getPlatformGenerator().getSpatialIndex().query(feetY + MIN_CLIMB, feetY + Constants.WORLD_HEIGHT,
+                candidates);
+
+        Platform target = null;
+        float targetTop = Float.MAX_VALUE;
+        for (Platform platform : candidates) {
+            float top = platform.getTopY();
+            if (top < targetTop) {
+                target = platform;
+                targetTop = top;
+            }
+        }
+        candidates.clear();
+
+        if (target == null) {
+            input.clear();
+            return;
+        }
+
+        float targetX = target.getX() + target.getWidth() / 2;
+        input.set(targetX < centerX - STEER_DEAD_ZONE, targetX > centerX + STEER_DEAD_ZONE,
+                player.isOnGround() || player.getVelocity().y < 0);
+    }
+
+    @Override
+    public void reset() {
+    }
+}
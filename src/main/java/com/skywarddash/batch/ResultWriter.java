@@ -0,0 +1,132 @@
+package com.skywarddash.batch;
+
+import com.skywarddash.simulation.WorldConfig;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Per-run rows and aggregate stats as CSV or JSON
+public class ResultWriter {
+    private final RunResult[] results;
+
+    public ResultWriter(RunResult[] results) {
+        this.results = results;
+    }
+
+    public void writeCsv(PrintWriter out) {
+        out.println("seed,floor,score,death_cause,time_survived,max_height");
+        for (RunResult result : results) {
+            out.println(String.format(Locale.ROOT, "%d,%d,%d,%s,%.3f,%.1f", result.seed, result.floor, result.score,
+                    result.deathCause, result.timeSurvived, result.maxHeight));
+        }
+    }
+
+    public void writeJson(PrintWriter out, WorldConfig config) {
+        out.println("{");
+        out.println("  \"config\": \"" + config.describe() + "\",");
+        out.println("  \"summary\": {");
+        out.println(String.format(Locale.ROOT, "    \"runs\": %d,", results.length));
+        writeStatJson(out, "floor", floors(), ",");
+        writeStatJson(out, "score", scores(), ",");
+        writeStatJson(out, "time_survived", times(), ",");
+        out.print("    \"death_causes\": {");
+        String separator = "";
+        for (Map.Entry<String, Integer> entry : deathCauses().entrySet()) {
+            out.print(separator + "\"" + entry.getKey() + "\": " + entry.getValue());
+            separator = ", ";
+        }
+        out.println("}");
+        out.println("  },");
+
+        out.println("  \"runs\": [");
+        for (int i = 0; i < results.length; i++) {
+            RunResult result = results[i];
+            out.print(String.format(Locale.ROOT,
+                    "    {\"seed\": %d, \"floor\": %d, \"score\": %d, \"death_cause\": \"%s\", "
+                            + "\"time_survived\": %.3f, \"max_height\": %.1f}",
+                    result.seed, result.floor, result.score, result.deathCause, result.timeSurvived,
+                    result.maxHeight));
+            out.println(i < results.length - 1 ? "," : "");
+        }
+        out.println("  ]");
+        out.println("}");
+    }
+
+    // Human-readable aggregate, for the console
+    public void writeSummary(PrintWriter out) {
+        out.println("runs: " + results.length);
+        writeStatLine(out, "floor", floors());
+        writeStatLine(out, "score", scores());
+        writeStatLine(out, "time survived (s)", times());
+        out.println("death causes: " + deathCauses());
+    }
+
+    private void writeStatJson(PrintWriter out, String name, double[] values, String trailer) {
+        out.println(String.format(Locale.ROOT,
+                "    \"%s\": {\"mean\": %.2f, \"median\": %.2f, \"p90\": %.2f, \"max\": %.2f}%s",
+                name, mean(values), percentile(values, 0.5), percentile(values, 0.9),
+                percentile(values, 1.0), trailer));
+    }
+
+    private void writeStatLine(PrintWriter out, String name, double[] values) {
+        out.println(String.format(Locale.ROOT, "%s: mean %.1f, median %.1f, p90 %.1f, max %.1f",
+                name, mean(values), percentile(values, 0.5), percentile(values, 0.9), percentile(values, 1.0)));
+    }
+
+    private double[] floors() {
+        double[] values = new double[results.length];
+        for (int i = 0; i < results.length; i++) {
+            values[i] = results[i].floor;
+        }
+        return values;
+    }
+
+    private double[] scores() {
+        double[] values = new double[results.length];
+        for (int i = 0; i < results.length; i++) {
+            values[i] = results[i].score;
+        }
+        return values;
+    }
+
+    private double[] times() {
+        double[] values = new double[results.length];
+        for (int i = 0; i < results.length; i++) {
+            values[i] = results[i].timeSurvived;
+        }
+        return values;
+    }
+
+    private Map<String, Integer> deathCauses() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (RunResult result : results) {
+            counts.merge(result.deathCause, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static double mean(double[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    // Nearest-rank percentile
+    private static double percentile(double[] values, double fraction) {
+        if (values.length == 0) {
+            return 0;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+}
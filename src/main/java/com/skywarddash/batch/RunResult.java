@@ -0,0 +1,20 @@
+package com.skywarddash.batch;
+
+// Outcome of one simulated game
+public class RunResult {
+    public final long seed;
+    public final int floor;
+    public final int score;
+    public final String deathCause; // A DeathCause name, or TIMEOUT if the run hit the time limit
+    public final float timeSurvived; // Seconds of game time
+    public final float maxHeight;
+
+    public RunResult(long seed, int floor, int score, String deathCause, float timeSurvived, float maxHeight) {
+        this.seed = seed;
+        this.floor = floor;
+        this.score = score;
+        this.deathCause = deathCause;
+        this.timeSurvived = timeSurvived;
+        this.maxHeight = maxHeight;
+    }
+}
@@ -0,0 +1,40 @@
+package com.skywarddash.batch;
+
+import com.skywarddash.entities.Player;
+import com.skywarddash.simulation.InputSource;
+import com.skywarddash.simulation.PlayerInput;
+import com.skywarddash.simulation.World;
+import com.skywarddash.utils.Constants;
+
+// Scripted baseline that ignores the platforms: runs to one wall, turns around, and jumps
+// whenever it stands on something
+public class WallJumperBot implements InputSource {
+    private final World world;
+    private boolean movingRight = true;
+
+    public WallJumperBot(World world) {
+        this.world = world;
+    }
+
+    @Override
+    public void poll() {
+    }
+
+    @Override
+    public void readInput(PlayerInput input) {
+        Player player = world.getPlayer();
+        float x = player.getPosition().x;
+        if (x <= 0) {
+            movingRight = true;
+        } else if (x >= Constants.WORLD_WIDTH - player.getBounds().width) {
+            movingRight = false;
+        }
+
+        input.set(!movingRight, movingRight, player.isOnGround());
+    }
+
+    @Override
+    public void reset() {
+        movingRight = true;
+    }
+}
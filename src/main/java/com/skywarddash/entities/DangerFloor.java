@@ -1,6 +1,5 @@
 package com.skywarddash.entities;
 
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.skywarddash.utils.Constants;
 
@@ -8,18 +7,42 @@ public class DangerFloor {
     private float height;
     private Rectangle bounds;
     private float speed;
+    private float gracePeriod;
+    private boolean rising; // Set by the world's timer once the grace period is over
 
     public DangerFloor(float startHeight) {
+        this(startHeight, Constants.RISING_FLOOR_SPEED, 10.0f);
+    }
+
+    public DangerFloor(float startHeight, float speed, float gracePeriod) {
         this.height = startHeight;
         this.bounds = new Rectangle(0, startHeight, Constants.WORLD_WIDTH, 1.0f);
-        this.speed = Constants.RISING_FLOOR_SPEED;
+        this.speed = speed;
+        this.gracePeriod = gracePeriod; // Start rising after this many seconds (like Icy Tower)
+    }
+
+    // Back to the starting height for a new run
+    public void reset(float startHeight) {
+        this.height = startHeight;
+        bounds.setPosition(0, startHeight);
+        rising = false;
+    }
+
+    public void startRising() {
+        rising = true;
+    }
+
+    public boolean isRising() {
+        return rising;
+    }
+
+    public float getGracePeriod() {
+        return gracePeriod;
     }
 
     public void update(float deltaTime, int score, float gameTime, float playerY) {
         // Longer grace period for better early game experience
-        float gracePeriod = 10.0f; // Start rising after 10 seconds (like Icy Tower)
-
-        if (gameTime > gracePeriod) {
+        if (rising) {
             // Progressive speed system based on player height/score
             float baseSpeedMultiplier = 0.8f; // Much slower base speed for early game
 
@@ -58,22 +81,6 @@ public class DangerFloor {
         update(deltaTime, score, 0);
     }
 
-    public void render(ShapeRenderer shapeRenderer) {
-        shapeRenderer.setColor(Constants.DANGER_FLOOR_COLOR[0], Constants.DANGER_FLOOR_COLOR[1],
-                Constants.DANGER_FLOOR_COLOR[2], Constants.DANGER_FLOOR_COLOR[3]);
-        shapeRenderer.rect(0, height, Constants.WORLD_WIDTH, 1.0f);
-
-        // Add a gradient effect by drawing multiple layers
-        for (int i = 1; i <= 5; i++) {
-            float alpha = 1.0f - (i * 0.15f);
-            if (alpha > 0) {
-                shapeRenderer.setColor(Constants.DANGER_FLOOR_COLOR[0], Constants.DANGER_FLOOR_COLOR[1],
-                        Constants.DANGER_FLOOR_COLOR[2], alpha);
-                shapeRenderer.rect(0, height - i * 0.1f, Constants.WORLD_WIDTH, 0.1f);
-            }
-        }
-    }
-
     public boolean checkCollision(Rectangle playerBounds) {
         return playerBounds.y <= height;
     }
@@ -1,315 +1,125 @@
 package com.skywarddash.entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
-import com.skywarddash.utils.Constants;
+import java.util.Random;
 
+// Lightweight view of one platform in a PlatformStore. The state lives in the store's arrays;
+// a view stays valid for as long as its platform is in the tower.
 public class Platform {
-    private static final String TAG = "Platform";
-    // Platform behavior constants
-    private static final float BOUNCY_MULTIPLIER = 1.5f;
-    private static final float ICY_FRICTION_REDUCTION = 0.1f;
-    private static final float FALLING_DELAY = 0.5f;
-    private static final float FALLING_SPEED = 200f;
-    private static final float MOVING_SPEED = 50f;
-    private static final float MOVING_RANGE = 100f;
-    private final Vector2 position;
-    private final Rectangle bounds;
-    private final PlatformType type;
-    private final float width;
-    private final float height;
-    // Platform state
-    private boolean visited;
-    private boolean shouldRemove;
-    private float stateTimer;
-    private Vector2 velocity;
-    private Vector2 originalPosition; // Store original position for respawn
-    private boolean canRespawn;
-
-    public Platform(float x, float y, PlatformType type) {
-        this(x, y, type, Constants.PLATFORM_WIDTH_MEDIUM, Constants.PLATFORM_THICKNESS);
-    }
+    public static final int NOT_INDEXED = Integer.MIN_VALUE;
+    public static final float FALLING_DELAY = 0.5f;
 
-    public Platform(float x, float y, PlatformType type, float width, float height) {
-        this.position = new Vector2(x, y);
-        this.width = width;
-        this.height = height;
-        this.bounds = new Rectangle(x, y, width, height);
-        this.type = type;
-        this.visited = false;
-        this.shouldRemove = false;
-        this.stateTimer = 0f;
-        this.velocity = new Vector2();
-        this.originalPosition = new Vector2(x, y);
-        this.canRespawn = (type == PlatformType.BREAKABLE || type == PlatformType.FALLING);
-
-        // Only log special platforms and every 10th platform to reduce spam
-        if (type != PlatformType.NORMAL || (int) (x + y) % 500 == 0) {
-            Gdx.app.log(TAG, "Created platform: " + type + " at (" + x + ", " + y + ") size: " + width + "x" + height);
-        }
-    }
+    private final PlatformStore store;
+    int slot; // Kept up to date by the store when it moves platforms around
+    int generation; // Bumped whenever the platform's pending timers stop applying
 
-    public Platform(float x, float y) {
-        this(x, y, PlatformType.NORMAL);
+    Platform(PlatformStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
     }
 
-    public void update(float deltaTime) {
-        try {
-            stateTimer += deltaTime;
-
-            switch (type) {
-                case MOVING:
-                    updateMovingPlatform(deltaTime);
-                    break;
-                case FALLING:
-                    updateFallingPlatform(deltaTime);
-                    break;
-                case BREAKABLE:
-                    updateBreakablePlatform(deltaTime);
-                    break;
-                default:
-                    // Normal, bouncy, and icy platforms don't need continuous updates
-                    break;
-            }
-
-            // Apply velocity if any
-            if (!velocity.isZero()) {
-                position.add(velocity.x * deltaTime, velocity.y * deltaTime);
-                bounds.setPosition(position.x, position.y);
-            }
-
-        } catch (Exception e) {
-            Gdx.app.error(TAG, "Error updating platform: " + e.getMessage());
-        }
+    public void onPlayerLanded(Player player, Random random) {
+        store.onPlayerLanded(slot, player, random);
     }
 
-    private void updateMovingPlatform(float deltaTime) {
-        // Oscillate horizontally using sine wave
-        float originalX = bounds.x - velocity.x * deltaTime; // Get original position
-        float moveOffset = (float) Math.sin(stateTimer * 2.0) * MOVING_SPEED;
-        velocity.x = moveOffset;
-    }
-
-    private void updateFallingPlatform(float deltaTime) {
-        if (visited && stateTimer > FALLING_DELAY) {
-            velocity.y = -FALLING_SPEED;
-            // Instead of removing completely, respawn after some time
-            if (position.y < -height) {
-                if (canRespawn) {
-                    respawnPlatform();
-                } else {
-                    shouldRemove = true;
-                }
-            }
-        }
+    // Getters
+    public float getX() {
+        return store.x[slot];
     }
 
-    private void updateBreakablePlatform(float deltaTime) {
-        if (visited && stateTimer > 1.0f) { // Give player time to jump off
-            if (canRespawn) {
-                // Hide platform temporarily, then respawn it
-                position.y = -1000; // Move off screen temporarily
-                if (stateTimer > 5.0f) { // Respawn after 5 seconds
-                    respawnPlatform();
-                }
-            } else {
-                shouldRemove = true;
-            }
-        }
+    public float getY() {
+        return store.y[slot];
     }
 
-    public void render(ShapeRenderer shapeRenderer) {
-        float[] color = getColorForType();
-
-        // Add visual effects based on state
-        if (type == PlatformType.FALLING && visited && stateTimer > FALLING_DELAY * 0.5f) {
-            // Flashing effect for falling platforms
-            float flash = (float) Math.sin(stateTimer * 10) * 0.3f + 0.7f;
-            shapeRenderer.setColor(color[0] * flash, color[1] * flash, color[2] * flash, color[3]);
-        } else if (type == PlatformType.BREAKABLE && visited) {
-            // Fading effect for breakable platforms
-            float alpha = Math.max(0.3f, 1.0f - (stateTimer * 0.5f));
-            shapeRenderer.setColor(color[0], color[1], color[2], alpha);
-        } else {
-            shapeRenderer.setColor(color[0], color[1], color[2], color[3]);
-        }
-
-        shapeRenderer.rect(position.x, position.y, width, height);
+    public float getTopY() {
+        return store.y[slot] + store.height[slot];
     }
 
-    public void render(com.badlogic.gdx.graphics.g2d.SpriteBatch batch, com.skywarddash.utils.AssetManager assetManager) {
-        try {
-            if (assetManager.isAssetsLoaded()) {
-                com.badlogic.gdx.graphics.Texture texture = assetManager.getPlatformTexture(type.toString().toLowerCase());
-                if (texture != null) {
-                    // Apply visual effects based on state
-                    if (type == PlatformType.FALLING && visited && stateTimer > FALLING_DELAY * 0.5f) {
-                        // Flashing effect for falling platforms
-                        float flash = (float) Math.sin(stateTimer * 10) * 0.3f + 0.7f;
-                        batch.setColor(flash, flash, flash, 1.0f);
-                    } else if (type == PlatformType.BREAKABLE && visited) {
-                        // Fading effect for breakable platforms
-                        float alpha = Math.max(0.3f, 1.0f - (stateTimer * 0.5f));
-                        batch.setColor(1.0f, 1.0f, 1.0f, alpha);
-                    } else {
-                        batch.setColor(1.0f, 1.0f, 1.0f, 1.0f);
-                    }
-
-                    batch.draw(texture, position.x, position.y, width, height);
-                    batch.setColor(1.0f, 1.0f, 1.0f, 1.0f); // Reset color
-                }
-            }
-        } catch (Exception e) {
-            Gdx.app.error(TAG, "Error rendering platform: " + e.getMessage());
-        }
+    public float getPreviousX() {
+        return store.previousX[slot];
     }
 
-    private float[] getColorForType() {
-        switch (type) {
-            case BOUNCY:
-                return new float[]{1.0f, 0.8f, 0.2f, 1.0f}; // Orange
-            case BREAKABLE:
-                return new float[]{0.8f, 0.4f, 0.2f, 1.0f}; // Brown
-            case MOVING:
-                return new float[]{0.9f, 0.9f, 0.9f, 1.0f}; // White/gray
-            case ICY:
-                return new float[]{0.7f, 0.9f, 1.0f, 1.0f}; // Light blue
-            case FALLING:
-                return new float[]{1.0f, 0.3f, 0.3f, 1.0f}; // Red
-            default:
-                return Constants.PLATFORM_COLOR; // Green
-        }
+    public float getPreviousY() {
+        return store.previousY[slot];
     }
 
-    public boolean checkCollision(Rectangle playerBounds) {
-        return bounds.overlaps(playerBounds);
+    public float getVelocityX() {
+        return store.velocityX(slot);
     }
 
-    public void onPlayerLanded(Player player) {
-        try {
-            if (!visited) {
-                visited = true;
-                stateTimer = 0f; // Reset timer when first visited
-                // Only log special platform landings
-                if (type != PlatformType.NORMAL) {
-                    Gdx.app.log(TAG, "Player landed on " + type + " platform");
-                }
-            }
-
-            switch (type) {
-                case BOUNCY:
-                    handleBouncyPlatform(player);
-                    break;
-                case BREAKABLE:
-                    handleBreakablePlatform(player);
-                    break;
-                case ICY:
-                    handleIcyPlatform(player);
-                    break;
-                case FALLING:
-                    handleFallingPlatform(player);
-                    break;
-                case MOVING:
-                    handleMovingPlatform(player);
-                    break;
-                default:
-                    // Normal platform behavior
-                    break;
-            }
-        } catch (Exception e) {
-            Gdx.app.error(TAG, "Error handling player landing: " + e.getMessage());
-        }
+    public PlatformType getType() {
+        return store.typeOf(slot);
     }
 
-    private void handleBouncyPlatform(Player player) {
-        // Increase jump velocity for extra bounce
-        player.getVelocity().y = Constants.MAX_JUMP_HEIGHT * BOUNCY_MULTIPLIER;
-        Gdx.app.log(TAG, "Bouncy platform activated - jump boost applied");
+    public boolean isVisited() {
+        return store.visited[slot];
     }
 
-    private void handleBreakablePlatform(Player player) {
-        // Platform will break after a delay (handled in update)
-        Gdx.app.log(TAG, "Breakable platform activated - will disappear soon");
+    // Time since spawning, first landing or respawning
+    public float getStateTimer() {
+        return store.stateTimer(slot);
     }
 
-    private void handleIcyPlatform(Player player) {
-        // Much more aggressive icy effect - player slides significantly more
-        Vector2 playerVel = player.getVelocity();
-        playerVel.x *= 1.3f; // 30% speed boost instead of 10%
-
-        // Add some random sliding effect for unpredictability
-        if (Math.abs(playerVel.x) > 100f) {
-            float randomSlide = (float) (Math.random() - 0.5) * 50f; // Random slide up to 25 pixels/sec each direction
-            playerVel.x += randomSlide;
-        }
-
-        Gdx.app.log(TAG, "Icy platform activated - major sliding effect");
+    // Setters
+    public void setVisited(boolean visited) {
+        store.setVisited(slot, visited);
     }
 
-    private void handleFallingPlatform(Player player) {
-        // Platform will start falling after a delay (handled in update)
-        Gdx.app.log(TAG, "Falling platform activated - will fall soon");
+    // Broken and waiting to respawn
+    public boolean isHidden() {
+        return store.hidden[slot];
     }
 
-    private void handleMovingPlatform(Player player) {
-        // Transfer some platform velocity to player
-        Vector2 playerVel = player.getVelocity();
-        playerVel.x += velocity.x * 0.5f; // Partial momentum transfer
-        // Remove excessive logging from moving platforms
+    public boolean shouldRemove() {
+        return store.removalFlag[slot];
     }
 
-    // Getters
-    public Vector2 getPosition() {
-        return position;
+    public float getWidth() {
+        return store.width[slot];
     }
 
-    public Rectangle getBounds() {
-        return bounds;
+    public float getHeight() {
+        return store.height[slot];
     }
 
-    public PlatformType getType() {
-        return type;
+    public void markForRemoval() {
+        store.markForRemoval(slot);
     }
 
-    public boolean isVisited() {
-        return visited;
+    public float getRenderX(float alpha) {
+        float previous = store.previousX[slot];
+        return previous + (store.x[slot] - previous) * alpha;
     }
 
-    // Setters
-    public void setVisited(boolean visited) {
-        this.visited = visited;
+    public float getRenderY(float alpha) {
+        float previous = store.previousY[slot];
+        return previous + (store.y[slot] - previous) * alpha;
     }
 
-    public boolean shouldRemove() {
-        return shouldRemove;
+    public float getSpawnY() {
+        return store.originY[slot];
     }
 
-    public float getWidth() {
-        return width;
+    public boolean isRespawnable() {
+        return store.isRespawnable(slot);
     }
 
-    public float getHeight() {
-        return height;
+    // Only falling and breakable platforms ever change height (falling, parking, respawning)
+    public boolean canMoveVertically() {
+        return store.isRespawnable(slot);
     }
 
-    public void markForRemoval() {
-        this.shouldRemove = true;
+    // Never moves, breaks or changes look once generated, so renderers may cache it
+    public boolean isStatic() {
+        PlatformType type = getType();
+        return type == PlatformType.NORMAL || type == PlatformType.BOUNCY || type == PlatformType.ICY;
     }
 
-    private void respawnPlatform() {
-        // Reset platform to original position and state
-        position.set(originalPosition);
-        bounds.setPosition(originalPosition.x, originalPosition.y);
-        velocity.set(0, 0);
-        visited = false;
-        stateTimer = 0f;
-        Gdx.app.log(TAG, "Respawned " + type + " platform at original position");
+    public int getIndexBucket() {
+        return store.indexBucket[slot];
     }
 
-    public boolean isRespawnable() {
-        return canRespawn;
+    public void setIndexBucket(int indexBucket) {
+        store.indexBucket[slot] = indexBucket;
     }
 
     public enum PlatformType {
@@ -330,4 +140,4 @@ public class Platform {
             return description;
         }
     }
-}
\ No newline at end of file
+}
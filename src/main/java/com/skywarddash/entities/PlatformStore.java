@@ -0,0 +1,537 @@
+package com.skywarddash.entities;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.skywarddash.systems.TimerWheel;
+import com.skywarddash.utils.Constants;
+import com.skywarddash.utils.GameLog;
+
+import java.util.Random;
+
+// Live platforms as parallel primitive arrays (struct of arrays), ordered by spawn height.
+// Platforms occupy the slots [start, end): the generator appends new ones at the top and the lowest
+// ones retire from the bottom, both in O(1).
+// Most platforms are static, so per-tick work only touches the active set: moving platforms, and
+// falling ones while they fall. Everything else costs nothing per tick. Breaking, the start of a
+// fall and respawning are scheduled on the world's timer wheel when a platform is landed on.
+// Motion is closed-form: a platform's position is a function of the store's clock, its spawn time
+// and the time of its last landing or respawn, evaluated directly instead of integrated step by
+// step. It doesn't depend on the tick rate, and any platform can be evaluated at any time in O(1).
+// Each slot has a Platform view for code that wants to hold on to one platform (spatial index,
+// collisions, listeners); views move along with their data and are reused once retired.
+public class PlatformStore implements TimerWheel.Handler {
+    private static final String TAG = "Platform";
+    private static final Platform.PlatformType[] TYPES = Platform.PlatformType.values();
+    private static final byte NORMAL = (byte) Platform.PlatformType.NORMAL.ordinal();
+    private static final byte BOUNCY = (byte) Platform.PlatformType.BOUNCY.ordinal();
+    private static final byte BREAKABLE = (byte) Platform.PlatformType.BREAKABLE.ordinal();
+    private static final byte MOVING = (byte) Platform.PlatformType.MOVING.ordinal();
+    private static final byte ICY = (byte) Platform.PlatformType.ICY.ordinal();
+    private static final byte FALLING = (byte) Platform.PlatformType.FALLING.ordinal();
+
+    // Behavior constants
+    private static final float BOUNCY_MULTIPLIER = 1.5f;
+    private static final float FALLING_SPEED = 200f;
+    private static final float MOVING_SPEED = 50f; // Peak horizontal speed
+    private static final double MOVING_FREQUENCY = 2.0; // Radians per second
+    private static final float MOVING_AMPLITUDE = (float) (MOVING_SPEED / MOVING_FREQUENCY);
+    private static final float BREAKABLE_DELAY = 1.0f; // Give player time to jump off
+    private static final float BREAKABLE_RESPAWN_TIME = 5.0f;
+
+    // Timer events
+    private static final int EVENT_BREAK = 0;
+    private static final int EVENT_START_FALLING = 1;
+    private static final int EVENT_RESPAWN = 2;
+
+    float[] x;
+    float[] y;
+    float[] previousX; // Position at the start of the last simulation tick
+    float[] previousY;
+    float[] width;
+    float[] height;
+    float[] originX; // Spawn position, for respawning
+    float[] originY;
+    double[] spawnTime; // Clock time the platform was added, moving platforms swing from there
+    double[] eventTime; // Clock time of the spawn, first landing or last respawn
+    byte[] type;
+    boolean[] visited;
+    boolean[] removalFlag;
+    boolean[] hidden; // Broken, waiting to respawn: out of the spatial index and not drawn
+    boolean[] idle; // Active platform that has settled and leaves the active set next tick
+    int[] indexBucket; // Spatial index bucket each platform is filed under
+    private Platform[] views;
+    private int start;
+    private int end;
+    // Platforms that need per-tick work, in slot order so updates happen in tower order
+    private final Array<Platform> active = new Array<>(true, 16, Platform.class);
+    private boolean removalPending;
+    private double time; // Seconds of simulation since the store was last cleared
+    private TimerWheel timers;
+
+    public PlatformStore() {
+        this(64);
+    }
+
+    public PlatformStore(int initialCapacity) {
+        allocate(Math.max(initialCapacity, 2));
+    }
+
+    // Platforms must be added in non-decreasing spawn height
+    public Platform add(float px, float py, Platform.PlatformType platformType, float platformWidth,
+                        float platformHeight) {
+        if (end == x.length) {
+            makeRoom();
+        }
+        int slot = end++;
+        x[slot] = px;
+        y[slot] = py;
+        previousX[slot] = px;
+        previousY[slot] = py;
+        width[slot] = platformWidth;
+        height[slot] = platformHeight;
+        originX[slot] = px;
+        originY[slot] = py;
+        spawnTime[slot] = time;
+        eventTime[slot] = time;
+        type[slot] = (byte) platformType.ordinal();
+        visited[slot] = false;
+        removalFlag[slot] = false;
+        hidden[slot] = false;
+        idle[slot] = false;
+        indexBucket[slot] = Platform.NOT_INDEXED;
+
+        Platform view = views[slot];
+        if (view == null) {
+            view = new Platform(this, slot);
+            views[slot] = view;
+        }
+        view.generation++;
+        if (platformType == Platform.PlatformType.MOVING) {
+            active.add(view); // Highest slot so far, so the active set stays in slot order
+        }
+
+        // Only log special platforms and every 10th platform to reduce spam
+        if (GameLog.isDebugEnabled() && (platformType != Platform.PlatformType.NORMAL || (int) (px + py) % 500 == 0)) {
+            GameLog.debug(TAG, "Created platform: " + platformType + " at (" + px + ", " + py + ") size: "
+                    + platformWidth + "x" + platformHeight);
+        }
+        return view;
+    }
+
+    // The returned view is retired: read what you need from it before adding more platforms
+    public Platform removeFirst() {
+        if (start == end) {
+            throw new IllegalStateException("PlatformStore is empty");
+        }
+        Platform retired = views[start++];
+        retired.generation++; // Its pending timers no longer apply
+        // The lowest platform can only be the first active one
+        if (active.size > 0 && active.first() == retired) {
+            active.removeIndex(0);
+        }
+        return retired;
+    }
+
+    public Platform first() {
+        return start == end ? null : views[start];
+    }
+
+    public Platform last() {
+        return start == end ? null : views[end - 1];
+    }
+
+    // Index 0 is the lowest platform, size() - 1 the highest
+    public Platform get(int index) {
+        if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException("index " + index + " size " + (end - start));
+        }
+        return views[start + index];
+    }
+
+    public int size() {
+        return end - start;
+    }
+
+    public boolean isEmpty() {
+        return start == end;
+    }
+
+    public void clear() {
+        for (int i = start; i < end; i++) {
+            views[i].generation++;
+        }
+        start = 0;
+        end = 0;
+        active.clear();
+        removalPending = false;
+        time = 0;
+    }
+
+    public double getTime() {
+        return time;
+    }
+
+    // Landing effects are scheduled here; without a wheel, platforms never break, fall or respawn
+    public void setTimers(TimerWheel timers) {
+        this.timers = timers;
+    }
+
+    // Platforms that moved or changed state during the last update(), in tower order
+    public int getActiveCount() {
+        return active.size;
+    }
+
+    public Platform getActive(int index) {
+        return active.get(index);
+    }
+
+    // Remember where this simulation tick started so rendering can interpolate. Inactive platforms
+    // don't move, and their previous position already matches.
+    public void storePreviousPositions() {
+        for (int a = 0; a < active.size; a++) {
+            int i = active.get(a).slot;
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+        }
+    }
+
+    // Advances the active platforms by one tick
+    public void update(float deltaTime) {
+        // Platforms that settled last tick stay listed until now, so the caller could still re-index them
+        dropIdle();
+
+        time += deltaTime;
+        for (int a = 0; a < active.size; a++) {
+            int i = active.get(a).slot;
+            byte t = type[i];
+            if (t == MOVING) {
+                x[i] = originX[i] + movingOffset(time - spawnTime[i]);
+            } else if (t == FALLING) {
+                // Active from the end of the falling delay until the respawn timer fires
+                y[i] = originY[i] - FALLING_SPEED * Math.max(stateTimer(i) - Platform.FALLING_DELAY, 0f);
+            }
+        }
+    }
+
+    // True if a platform was flagged since the last removeFlagged()
+    public boolean isRemovalPending() {
+        return removalPending;
+    }
+
+    // Seconds since the spawn, first landing or last respawn
+    float stateTimer(int i) {
+        return (float) (time - eventTime[i]);
+    }
+
+    // Moving platforms swing right of their spawn position and back: the integral of a
+    // velocity of MOVING_SPEED * sin(MOVING_FREQUENCY * age)
+    private static float movingOffset(double age) {
+        return (float) (1.0 - Math.cos(age * MOVING_FREQUENCY)) * MOVING_AMPLITUDE;
+    }
+
+    float velocityX(int i) {
+        if (type[i] != MOVING) {
+            return 0;
+        }
+        return (float) Math.sin((time - spawnTime[i]) * MOVING_FREQUENCY) * MOVING_SPEED;
+    }
+
+    private void dropIdle() {
+        int kept = 0;
+        for (int a = 0; a < active.size; a++) {
+            Platform platform = active.get(a);
+            if (idle[platform.slot]) {
+                idle[platform.slot] = false;
+            } else {
+                active.set(kept++, platform);
+            }
+        }
+        active.truncate(kept);
+    }
+
+    @Override
+    public void onTimer(int event, Object target, int stamp) {
+        Platform platform = (Platform) target;
+        if (platform.generation != stamp) {
+            return; // Retired or respawned since this was scheduled
+        }
+        int i = platform.slot;
+        switch (event) {
+            case EVENT_BREAK:
+                hidden[i] = true;
+                touch(i);
+                break;
+            case EVENT_START_FALLING:
+                activate(i);
+                break;
+            case EVENT_RESPAWN:
+                // Instead of removing completely, respawn
+                if (isRespawnable(i)) {
+                    respawn(i);
+                } else {
+                    markForRemoval(i);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    // Landing on a breakable or falling platform starts its countdowns
+    private void scheduleLandingEffects(int i) {
+        if (timers == null) {
+            return;
+        }
+        Platform view = views[i];
+        if (type[i] == BREAKABLE) {
+            timers.schedule(BREAKABLE_DELAY, this, EVENT_BREAK, view, view.generation);
+            timers.schedule(BREAKABLE_RESPAWN_TIME, this, EVENT_RESPAWN, view, view.generation);
+        } else if (type[i] == FALLING) {
+            // Respawns once it has dropped below the bottom of the world
+            float fallDuration = (originY[i] + height[i]) / FALLING_SPEED;
+            timers.schedule(Platform.FALLING_DELAY, this, EVENT_START_FALLING, view, view.generation);
+            timers.schedule(Platform.FALLING_DELAY + Math.max(fallDuration, 0f), this, EVENT_RESPAWN, view,
+                    view.generation);
+        }
+    }
+
+    private void respawn(int i) {
+        // Snap back to the spawn position instead of sweeping across the screen
+        x[i] = originX[i];
+        y[i] = originY[i];
+        previousX[i] = originX[i];
+        previousY[i] = originY[i];
+        visited[i] = false;
+        hidden[i] = false;
+        eventTime[i] = time;
+        views[i].generation++;
+        touch(i); // Listed for this tick so it gets re-indexed, then waits to be landed on again
+        if (GameLog.isDebugEnabled()) {
+            GameLog.debug(TAG, "Respawned " + TYPES[type[i]] + " platform at original position");
+        }
+    }
+
+    void onPlayerLanded(int i, Player player, Random random) {
+        byte t = type[i];
+        if (!visited[i]) {
+            eventTime[i] = time; // Reset timer when first visited
+            setVisited(i, true);
+            // Only log special platform landings
+            if (t != NORMAL && GameLog.isDebugEnabled()) {
+                GameLog.debug(TAG, "Player landed on " + TYPES[t] + " platform");
+            }
+        }
+
+        Vector2 playerVel = player.getVelocity();
+        if (t == BOUNCY) {
+            // Increase jump velocity for extra bounce
+            playerVel.y = Constants.MAX_JUMP_HEIGHT * BOUNCY_MULTIPLIER;
+            GameLog.debug(TAG, "Bouncy platform activated - jump boost applied");
+        } else if (t == BREAKABLE) {
+            // Platform will break after a delay (scheduled on landing)
+            GameLog.debug(TAG, "Breakable platform activated - will disappear soon");
+        } else if (t == ICY) {
+            // Much more aggressive icy effect - player slides significantly more
+            playerVel.x *= 1.3f;
+
+            // Add some random sliding effect for unpredictability
+            if (Math.abs(playerVel.x) > 100f) {
+                float randomSlide = (random.nextFloat() - 0.5f) * 50f; // Up to 25 pixels/sec each direction
+                playerVel.x += randomSlide;
+            }
+            GameLog.debug(TAG, "Icy platform activated - major sliding effect");
+        } else if (t == FALLING) {
+            // Platform will start falling after a delay (scheduled on landing)
+            GameLog.debug(TAG, "Falling platform activated - will fall soon");
+        } else if (t == MOVING) {
+            // Transfer some platform velocity to player
+            playerVel.x += velocityX(i) * 0.5f;
+        }
+    }
+
+    void setVisited(int i, boolean isVisited) {
+        boolean firstVisit = isVisited && !visited[i];
+        visited[i] = isVisited;
+        if (firstVisit) {
+            scheduleLandingEffects(i);
+        }
+    }
+
+    void markForRemoval(int i) {
+        removalFlag[i] = true;
+        removalPending = true;
+    }
+
+    // Lists a platform for just this tick, e.g. so the caller re-indexes it after a timer changed it
+    private void touch(int i) {
+        activate(i);
+        idle[i] = true;
+    }
+
+    private void activate(int i) {
+        if (idle[i]) {
+            idle[i] = false; // Still listed, it just settled
+            return;
+        }
+        Platform view = views[i];
+        int insertAt = active.size;
+        while (insertAt > 0 && active.get(insertAt - 1).slot >= i) {
+            if (active.get(insertAt - 1) == view) {
+                return; // Already active
+            }
+            insertAt--;
+        }
+        active.insert(insertAt, view);
+    }
+
+    // Drops the platforms flagged for removal while keeping the order of the rest. O(n), so only
+    // use it for the rare removal from the middle of the tower.
+    public int removeFlagged() {
+        for (int i = start; i < end; i++) {
+            if (removalFlag[i]) {
+                views[i].generation++;
+            }
+        }
+        int keptActive = 0;
+        for (int a = 0; a < active.size; a++) {
+            Platform platform = active.get(a);
+            if (!removalFlag[platform.slot]) {
+                active.set(keptActive++, platform);
+            }
+        }
+        active.truncate(keptActive);
+        removalPending = false;
+
+        int kept = start;
+        for (int i = start; i < end; i++) {
+            if (!removalFlag[i]) {
+                if (kept != i) {
+                    move(i, kept);
+                }
+                kept++;
+            }
+        }
+        int removed = end - kept;
+        end = kept;
+        return removed;
+    }
+
+    boolean isRespawnable(int i) {
+        return type[i] == BREAKABLE || type[i] == FALLING;
+    }
+
+    Platform.PlatformType typeOf(int i) {
+        return TYPES[type[i]];
+    }
+
+    // Moves a platform to a lower slot; the view there swaps up to the vacated slot as a spare
+    private void move(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        previousX[to] = previousX[from];
+        previousY[to] = previousY[from];
+        width[to] = width[from];
+        height[to] = height[from];
+        originX[to] = originX[from];
+        originY[to] = originY[from];
+        spawnTime[to] = spawnTime[from];
+        eventTime[to] = eventTime[from];
+        type[to] = type[from];
+        visited[to] = visited[from];
+        removalFlag[to] = removalFlag[from];
+        hidden[to] = hidden[from];
+        idle[to] = idle[from];
+        indexBucket[to] = indexBucket[from];
+
+        Platform moved = views[from];
+        Platform spare = views[to];
+        views[to] = moved;
+        moved.slot = to;
+        views[from] = spare;
+        if (spare != null) {
+            spare.slot = from;
+        }
+    }
+
+    // Out of slots at the top: slide the live platforms down if at least half the array is retired
+    // slots below them, otherwise double the capacity
+    private void makeRoom() {
+        if (start >= x.length / 2) {
+            int size = end - start;
+            for (int i = 0; i < size; i++) {
+                move(start + i, i);
+            }
+            start = 0;
+            end = size;
+        } else {
+            grow();
+        }
+    }
+
+    private void grow() {
+        int size = end - start;
+        int oldStart = start;
+        float[][] oldFloats = {x, y, previousX, previousY, width, height, originX, originY};
+        double[][] oldDoubles = {spawnTime, eventTime};
+        byte[] oldType = type;
+        boolean[] oldVisited = visited;
+        boolean[] oldRemovalFlag = removalFlag;
+        boolean[] oldIdle = idle;
+        boolean[] oldHidden = hidden;
+        int[] oldIndexBucket = indexBucket;
+        Platform[] oldViews = views;
+
+        allocate(x.length * 2);
+        float[][] newFloats = {x, y, previousX, previousY, width, height, originX, originY};
+        for (int f = 0; f < oldFloats.length; f++) {
+            System.arraycopy(oldFloats[f], oldStart, newFloats[f], 0, size);
+        }
+        double[][] newDoubles = {spawnTime, eventTime};
+        for (int d = 0; d < oldDoubles.length; d++) {
+            System.arraycopy(oldDoubles[d], oldStart, newDoubles[d], 0, size);
+        }
+        System.arraycopy(oldType, oldStart, type, 0, size);
+        System.arraycopy(oldVisited, oldStart, visited, 0, size);
+        System.arraycopy(oldRemovalFlag, oldStart, removalFlag, 0, size);
+        System.arraycopy(oldIdle, oldStart, idle, 0, size);
+        System.arraycopy(oldHidden, oldStart, hidden, 0, size);
+        System.arraycopy(oldIndexBucket, oldStart, indexBucket, 0, size);
+
+        // Keep every view, live ones first so they line up with their data again
+        int spareSlot = size;
+        for (int i = 0; i < oldViews.length; i++) {
+            Platform view = oldViews[i];
+            if (view == null) {
+                continue;
+            }
+            if (i >= oldStart && i < oldStart + size) {
+                view.slot = i - oldStart;
+            } else {
+                view.slot = spareSlot++;
+            }
+            views[view.slot] = view;
+        }
+        start = 0;
+        end = size;
+    }
+
+    private void allocate(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        originX = new float[capacity];
+        originY = new float[capacity];
+        spawnTime = new double[capacity];
+        eventTime = new double[capacity];
+        type = new byte[capacity];
+        visited = new boolean[capacity];
+        removalFlag = new boolean[capacity];
+        idle = new boolean[capacity];
+        hidden = new boolean[capacity];
+        indexBucket = new int[capacity];
+        views = new Platform[capacity];
+    }
+}
@@ -1,6 +1,5 @@
 package com.skywarddash.entities;
 
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.skywarddash.utils.Constants;
@@ -8,6 +7,7 @@ import com.skywarddash.utils.Constants;
 public class Player {
     private static final float MAX_COYOTE_TIME = 0.1f;
     private Vector2 position;
+    private Vector2 previousPosition; // Position at the start of the last simulation tick
     private Vector2 velocity;
     private Rectangle bounds;
     private boolean onGround;
@@ -23,14 +23,24 @@ public class Player {
 
     public Player(float x, float y) {
         position = new Vector2(x, y);
+        previousPosition = new Vector2(x, y);
         velocity = new Vector2(0, 0);
         bounds = new Rectangle(x, y, Constants.PLAYER_WIDTH, Constants.PLAYER_HEIGHT);
+        reset(x, y);
+    }
+
+    // Back to the freshly spawned state, so a restarted run plays exactly like a new one
+    public void reset(float x, float y) {
+        teleport(x, y);
+        velocity.set(0, 0);
         onGround = true; // Start on ground
         momentum = 0;
         comboCount = 0;
         wasOnGround = true;
         hasAirJump = true;
         coyoteTime = 0;
+        animationTime = 0f;
+        currentAnimation = PlayerAnimationState.IDLE;
     }
 
     public void update(float deltaTime) {
@@ -56,12 +66,13 @@ public class Player {
             }
         }
 
-        // Apply horizontal friction when on ground - much better sliding
+        // Apply horizontal friction - factors are per 60 FPS frame, so scale them to the step length
+        float frictionFrames = deltaTime * Constants.FRICTION_REFERENCE_RATE;
         if (onGround) {
-            velocity.x *= 0.98f; // Very low friction for excellent sliding
+            velocity.x *= (float) Math.pow(0.98f, frictionFrames); // Very low friction for excellent sliding
         } else {
             // Even less friction in air for more momentum preservation
-            velocity.x *= 0.995f; // Almost no air friction
+            velocity.x *= (float) Math.pow(0.995f, frictionFrames); // Almost no air friction
         }
 
         // Update momentum based on horizontal speed and movement consistency
@@ -157,11 +168,8 @@ public class Player {
         return 1.0f + (comboLevels * Constants.COMBO_SPEED_BOOST);
     }
 
-    public void jump() {
-        jump(null);
-    }
-
-    public void jump(com.skywarddash.utils.AssetManager assetManager) {
+    // Returns true if the jump happened
+    public boolean jump() {
         // Allow jumping: on ground, coyote time, or one air jump
         if (onGround || coyoteTime > 0 || hasAirJump) {
             // Jump height based on momentum
@@ -169,11 +177,6 @@ public class Player {
                     (Constants.MAX_JUMP_HEIGHT - Constants.BASE_JUMP_HEIGHT) * momentum;
             velocity.y = jumpHeight;
 
-            // Play jump sound
-            if (assetManager != null) {
-                assetManager.playSound(assetManager.jumpSound, 0.7f);
-            }
-
             // Increment combo if we weren't on ground last frame
             if (!wasOnGround) {
                 comboCount++;
@@ -189,7 +192,9 @@ public class Player {
             // Set not on ground after jumping and clear coyote time
             onGround = false;
             coyoteTime = 0;
+            return true;
         }
+        return false;
     }
 
     public void landOnPlatform() {
@@ -208,130 +213,6 @@ public class Player {
         comboCount = 0;
     }
 
-    public void render(ShapeRenderer shapeRenderer) {
-        // Animate color based on current state
-        float[] baseColor = Constants.PLAYER_COLOR;
-        float colorPulse = (float) Math.sin(animationTime * 4f) * 0.1f + 1.0f;
-
-        switch (currentAnimation) {
-            case JUMPING:
-                // Brighter blue when jumping
-                shapeRenderer.setColor(baseColor[0] + 0.2f, baseColor[1] + 0.2f, baseColor[2], baseColor[3]);
-                break;
-            case RUNNING:
-                // Pulsing effect when running
-                shapeRenderer.setColor(baseColor[0] * colorPulse, baseColor[1] * colorPulse, baseColor[2] * colorPulse, baseColor[3]);
-                break;
-            case FALLING:
-                // Slightly red tint when falling
-                shapeRenderer.setColor(baseColor[0] + 0.1f, baseColor[1] - 0.1f, baseColor[2] - 0.1f, baseColor[3]);
-                break;
-            default: // IDLE
-                shapeRenderer.setColor(baseColor[0], baseColor[1], baseColor[2], baseColor[3]);
-                break;
-        }
-
-        // Draw player with animation effects
-        float width = Constants.PLAYER_WIDTH;
-        float height = Constants.PLAYER_HEIGHT;
-
-        // Scale effect based on animation
-        if (currentAnimation == PlayerAnimationState.JUMPING) {
-            height *= 1.1f; // Stretch when jumping
-            width *= 0.95f;
-        } else if (currentAnimation == PlayerAnimationState.RUNNING) {
-            // Squash effect when running
-            width *= 1.0f + (float) Math.sin(animationTime * 8f) * 0.05f;
-            height *= 1.0f - (float) Math.sin(animationTime * 8f) * 0.03f;
-        }
-
-        shapeRenderer.rect(position.x, position.y, width, height);
-
-        // Add trail effect for high-speed movement
-        if (Math.abs(velocity.x) > 300f) {
-            float trailAlpha = Math.min(Math.abs(velocity.x) / 1000f, 0.8f);
-            shapeRenderer.setColor(baseColor[0], baseColor[1], baseColor[2], trailAlpha * 0.5f);
-
-            // Draw trail behind player
-            float trailOffset = velocity.x > 0 ? -20f : 20f;
-            shapeRenderer.rect(position.x + trailOffset, position.y, width * 0.8f, height * 0.6f);
-        }
-    }
-
-    public void render(com.badlogic.gdx.graphics.g2d.SpriteBatch batch, com.skywarddash.utils.AssetManager assetManager) {
-        if (assetManager.isAssetsLoaded()) {
-            com.badlogic.gdx.graphics.g2d.TextureRegion currentFrame = getCurrentAnimationFrame(assetManager);
-
-            if (currentFrame != null) {
-                // Determine if we should flip the sprite based on movement direction
-                boolean flipX = velocity.x < 0; // Flip when moving left
-
-                // Apply any scale effects based on animation state
-                float width = Constants.PLAYER_WIDTH;
-                float height = Constants.PLAYER_HEIGHT;
-
-                if (currentAnimation == PlayerAnimationState.JUMPING) {
-                    height *= 1.05f; // Slight stretch when jumping
-                    width *= 0.98f;
-                } else if (currentAnimation == PlayerAnimationState.RUNNING) {
-                    // Subtle squash effect when running
-                    width *= 1.0f + (float) Math.sin(animationTime * 12f) * 0.03f;
-                    height *= 1.0f - (float) Math.sin(animationTime * 12f) * 0.02f;
-                }
-
-                // Draw the sprite with proper scaling and flipping
-                batch.draw(currentFrame,
-                        flipX ? position.x + width : position.x, position.y,
-                        flipX ? -width : width, height);
-
-                // Add speed trail effect for high-speed movement using texture
-                if (Math.abs(velocity.x) > 400f && currentFrame != null) {
-                    float trailAlpha = Math.min(Math.abs(velocity.x) / 1000f, 0.6f);
-                    com.badlogic.gdx.graphics.Color oldColor = batch.getColor();
-                    batch.setColor(1.0f, 1.0f, 1.0f, trailAlpha * 0.4f);
-
-                    // Draw trail behind player
-                    float trailOffset = velocity.x > 0 ? -25f : 25f;
-                    batch.draw(currentFrame,
-                            flipX ? position.x + trailOffset + width * 0.8f : position.x + trailOffset,
-                            position.y,
-                            flipX ? -width * 0.8f : width * 0.8f, height * 0.7f);
-
-                    batch.setColor(oldColor); // Restore original color
-                }
-
-            } else {
-                // Fallback - no animation available, just draw idle frame
-                batch.draw(assetManager.playerIdle, position.x, position.y, Constants.PLAYER_WIDTH, Constants.PLAYER_HEIGHT);
-            }
-        }
-    }
-
-    private com.badlogic.gdx.graphics.g2d.TextureRegion getCurrentAnimationFrame(com.skywarddash.utils.AssetManager assetManager) {
-        switch (currentAnimation) {
-            case IDLE:
-                return assetManager.playerIdle;
-
-            case RUNNING:
-                // Alternate between walk1 and walk2 for running animation
-                float runAnimSpeed = 8f; // Higher speed = faster animation
-                if (assetManager.playerRun1 != null && assetManager.playerRun2 != null) {
-                    return ((int) (animationTime * runAnimSpeed) % 2 == 0) ? assetManager.playerRun1 : assetManager.playerRun2;
-                } else {
-                    return assetManager.playerIdle; // Fallback
-                }
-
-            case JUMPING:
-                return assetManager.playerJump != null ? assetManager.playerJump : assetManager.playerIdle;
-
-            case FALLING:
-                return assetManager.playerFalling != null ? assetManager.playerFalling : assetManager.playerIdle;
-
-            default:
-                return assetManager.playerIdle;
-        }
-    }
-
     // Getters
     public Vector2 getPosition() {
         return position;
@@ -371,6 +252,29 @@ public class Player {
         bounds.setPosition(x, y);
     }
 
+    // Remember where this simulation tick started so rendering can interpolate
+    public void storePreviousPosition() {
+        previousPosition.set(position);
+    }
+
+    // Move without interpolating from the old position (spawn, restart)
+    public void teleport(float x, float y) {
+        setPosition(x, y);
+        previousPosition.set(x, y);
+    }
+
+    public Vector2 getPreviousPosition() {
+        return previousPosition;
+    }
+
+    public float getRenderX(float alpha) {
+        return previousPosition.x + (position.x - previousPosition.x) * alpha;
+    }
+
+    public float getRenderY(float alpha) {
+        return previousPosition.y + (position.y - previousPosition.y) * alpha;
+    }
+
     public PlayerAnimationState getCurrentAnimation() {
         return currentAnimation;
     }
@@ -0,0 +1,23 @@
+package com.skywarddash.rendering;
+
+import com.skywarddash.entities.DangerFloor;
+import com.skywarddash.utils.Constants;
+
+public class DangerFloorRenderer {
+    private static final float GLOW_HEIGHT = 0.5f;
+    private static final float GLOW_TOP_ALPHA = 0.85f;
+    private static final float GLOW_BOTTOM_ALPHA = 0.25f;
+
+    public void render(SolidRenderer solids, DangerFloor dangerFloor) {
+        float height = dangerFloor.getHeight();
+        float[] color = Constants.DANGER_FLOOR_COLOR;
+
+        solids.setColor(color[0], color[1], color[2], color[3]);
+        solids.rect(0, height, Constants.WORLD_WIDTH, 1.0f);
+
+        // Gradient just below the line, fading out downwards - one quad with per-corner alpha
+        // rather than a stack of thin strips
+        solids.verticalGradient(0, height - GLOW_HEIGHT, Constants.WORLD_WIDTH, GLOW_HEIGHT,
+                color[0], color[1], color[2], GLOW_BOTTOM_ALPHA, GLOW_TOP_ALPHA);
+    }
+}
@@ -0,0 +1,104 @@
+package com.skywarddash.rendering;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.skywarddash.entities.Player;
+import com.skywarddash.simulation.World;
+import com.skywarddash.utils.Constants;
+
+// In-game HUD: stats, platform legend, game over and pause overlays. Every line is a cached
+// HudText, so a steady gameplay frame draws the HUD without allocating.
+public class GameHud {
+    private static final float MARGIN = 20f;
+
+    // Stats, top left
+    private final HudText score = new HudText("Score: ", "", 0, 1.0f, 1.0f, 1.0f, 1.0f, 1.0f);
+    private final HudText combo = new HudText("COMBO x", "", 0, 1.5f, 1.0f, 0.8f, 0.2f, 1.0f); // Gold
+    private final HudText speed = new HudText("Speed: ", "x", 1, 1.2f, 0.3f, 1.0f, 0.3f, 1.0f); // Bright green
+    private final HudText floor = new HudText("Floor: ", "", 0, 1.0f, 0.7f, 0.7f, 1.0f, 1.0f); // Light blue
+    private final HudText momentum = new HudText("Momentum: ", "%", 1, 1.0f, 1.0f, 1.0f, 1.0f, 1.0f); // White
+    private final HudText replay = new HudText("REPLAY", 1.0f, 1.0f, 0.5f, 0.5f, 1.0f); // Light red
+    private final HudText replayEnded = new HudText("REPLAY (ended)", 1.0f, 1.0f, 0.5f, 0.5f, 1.0f);
+
+    // Platform type legend (smaller text), top right
+    private final HudText[] legend = {
+            new HudText("Platform Types:", 0.8f, 0.9f, 0.9f, 0.9f, 0.8f),
+            new HudText("■ Normal - Standard platform", 0.8f, 0.4f, 0.8f, 0.2f, 1.0f), // Green
+            new HudText("■ Bouncy - Extra jump boost", 0.8f, 0.6f, 0.6f, 0.6f, 1.0f), // Gray
+            new HudText("■ Breakable - Disappears after use", 0.8f, 0.8f, 0.4f, 0.2f, 1.0f), // Brown
+            new HudText("■ Moving - Slides left and right", 0.8f, 0.9f, 0.9f, 0.9f, 1.0f) // White
+    };
+
+    // Game over screen
+    private final HudText gameOver = new HudText("GAME OVER!", 2.0f, 1.0f, 1.0f, 1.0f, 1.0f);
+    private final HudText finalScore = new HudText("Final Score: ", "", 0, 1.0f, 1.0f, 1.0f, 1.0f, 1.0f);
+    private final HudText highScore = new HudText("High Score: ", "", 0, 1.0f, 1.0f, 1.0f, 1.0f, 1.0f);
+    private final HudText seed = new HudText("Seed: ", "", 0, 1.0f, 1.0f, 1.0f, 1.0f, 1.0f);
+    private final HudText restartHint = new HudText("Press R to restart, ESC for menu", 1.0f, 1.0f, 1.0f, 1.0f, 1.0f);
+
+    // Pause screen
+    private final HudText pausedTitle = new HudText("PAUSED", 2.0f, 1.0f, 1.0f, 1.0f, 1.0f);
+    private final HudText pausedHint = new HudText("Press P to continue", 1.0f, 1.0f, 1.0f, 1.0f, 1.0f);
+
+    // centerX/centerY is the camera position
+    public void draw(SpriteBatch batch, BitmapFont font, float centerX, float centerY, World world,
+                     int highScoreValue, boolean paused, boolean replaying, boolean replayFinished) {
+        Player player = world.getPlayer();
+        float left = centerX - Constants.WORLD_WIDTH / 2 + MARGIN;
+        float top = centerY + Constants.WORLD_HEIGHT / 2 - MARGIN;
+
+        // Score
+        score.setValue(world.getScoreSystem().getScore());
+        score.draw(batch, font, left, top);
+
+        // Combo counter with speed multiplier
+        if (player.getComboCount() >= Constants.COMBO_START_THRESHOLD) {
+            combo.setValue(player.getComboCount());
+            combo.draw(batch, font, left, top - 30f);
+
+            speed.setValue(player.getCurrentSpeedMultiplier());
+            speed.draw(batch, font, left, top - 60f);
+        }
+
+        // Floor counter
+        floor.setValue(world.getPlatformGenerator().getCurrentFloor());
+        floor.draw(batch, font, left, top - 90f);
+
+        // Momentum indicator
+        momentum.setValue(player.getMomentum() * 100);
+        momentum.draw(batch, font, left, top - 120f);
+
+        // Replay indicator
+        if (replaying) {
+            (replayFinished ? replayEnded : replay).draw(batch, font, left, top - 150f);
+        }
+
+        // Platform type legend
+        float legendX = centerX + Constants.WORLD_WIDTH / 2 - 250f;
+        for (int i = 0; i < legend.length; i++) {
+            legend[i].draw(batch, font, legendX, top - i * 25f);
+        }
+
+        // Game over screen
+        if (world.isGameOver()) {
+            gameOver.draw(batch, font, centerX - 80f, centerY + 50f);
+
+            finalScore.setValue(world.getScoreSystem().getScore());
+            finalScore.draw(batch, font, centerX - 100f, centerY);
+
+            highScore.setValue(highScoreValue);
+            highScore.draw(batch, font, centerX - 100f, centerY - 30f);
+
+            seed.setValue(world.getSeed());
+            seed.draw(batch, font, centerX - 100f, centerY - 60f);
+
+            restartHint.draw(batch, font, centerX - 150f, centerY - 90f);
+        }
+
+        // Pause screen
+        if (paused) {
+            pausedTitle.draw(batch, font, centerX - 50f, centerY);
+            pausedHint.draw(batch, font, centerX - 80f, centerY - 40f);
+        }
+    }
+}
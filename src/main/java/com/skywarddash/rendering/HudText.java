@@ -0,0 +1,113 @@
+package com.skywarddash.rendering;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+// One line of HUD text: a fixed label, optionally followed by a number and a suffix ("Speed: 1.4x").
+// The text is rebuilt and laid out only when the number changes, so drawing it every frame
+// allocates nothing.
+public class HudText {
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1000L};
+
+    private final String prefix;
+    private final String suffix;
+    private final int decimals;
+    private final float scale;
+    private final Color color;
+
+    private final StringBuilder text = new StringBuilder(32);
+    private final GlyphLayout layout = new GlyphLayout();
+    private final boolean showsValue;
+    private long shownValue; // Value as displayed, scaled by 10^decimals
+    private boolean dirty = true;
+
+    // Fixed text
+    public HudText(String text, float scale, float r, float g, float b, float a) {
+        this(text, "", 0, false, scale, r, g, b, a);
+    }
+
+    // Label followed by a number with the given number of decimals (at most 3)
+    public HudText(String prefix, String suffix, int decimals, float scale, float r, float g, float b, float a) {
+        this(prefix, suffix, decimals, true, scale, r, g, b, a);
+    }
+
+    private HudText(String prefix, String suffix, int decimals, boolean showsValue, float scale,
+                    float r, float g, float b, float a) {
+        if (decimals < 0 || decimals >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Unsupported number of decimals: " + decimals);
+        }
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.decimals = decimals;
+        this.showsValue = showsValue;
+        this.scale = scale;
+        this.color = new Color(r, g, b, a);
+    }
+
+    public void setValue(long value) {
+        setScaledValue(value * POWERS_OF_TEN[decimals]);
+    }
+
+    public void setValue(float value) {
+        setScaledValue(Math.round((double) value * POWERS_OF_TEN[decimals]));
+    }
+
+    private void setScaledValue(long scaledValue) {
+        if (scaledValue != shownValue) {
+            shownValue = scaledValue;
+            dirty = true;
+        }
+    }
+
+    public void draw(Batch batch, BitmapFont font, float x, float y) {
+        BitmapFont.BitmapFontData data = font.getData();
+        float oldScaleX = data.scaleX;
+        float oldScaleY = data.scaleY;
+
+        // Glyph positions are baked in at layout time but glyph sizes use the scale at draw time
+        data.setScale(scale);
+        if (dirty) {
+            rebuildText();
+            layout.setText(font, text, color, 0, Align.left, false);
+            dirty = false;
+        }
+        font.draw(batch, layout, x, y);
+        data.setScale(oldScaleX, oldScaleY);
+    }
+
+    // Laid out width, valid once the text has been drawn
+    public float getWidth() {
+        return layout.width;
+    }
+
+    private void rebuildText() {
+        text.setLength(0);
+        text.append(prefix);
+        if (showsValue) {
+            appendNumber();
+        }
+        text.append(suffix);
+    }
+
+    // Like String.format("%.Nf") but straight into the buffer
+    private void appendNumber() {
+        long value = shownValue;
+        if (value < 0) {
+            text.append('-');
+            value = -value;
+        }
+
+        long unit = POWERS_OF_TEN[decimals];
+        text.append(value / unit);
+        if (decimals > 0) {
+            text.append('.');
+            long fraction = value % unit;
+            for (long digit = unit / 10; digit > 0; digit /= 10) {
+                text.append((char) ('0' + fraction / digit % 10));
+            }
+        }
+    }
+}
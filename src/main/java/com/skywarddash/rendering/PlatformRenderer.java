@@ -0,0 +1,104 @@
+package com.skywarddash.rendering;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.skywarddash.entities.Platform;
+import com.skywarddash.utils.AssetManager;
+import com.skywarddash.utils.Constants;
+
+public class PlatformRenderer {
+    private static final String TAG = "PlatformRenderer";
+
+    // Shape colors indexed by PlatformType ordinal, built once instead of per platform per frame
+    private static final float[][] TYPE_COLORS = new float[Platform.PlatformType.values().length][];
+
+    static {
+        for (Platform.PlatformType type : Platform.PlatformType.values()) {
+            TYPE_COLORS[type.ordinal()] = createColorForType(type);
+        }
+    }
+
+    public void render(SolidRenderer solids, Platform platform, float interpolation) {
+        if (platform.isHidden()) {
+            return;
+        }
+        float[] color = TYPE_COLORS[platform.getType().ordinal()];
+        float stateTimer = platform.getStateTimer();
+
+        // Add visual effects based on state
+        if (isFlashing(platform)) {
+            // Flashing effect for falling platforms
+            float flash = (float) Math.sin(stateTimer * 10) * 0.3f + 0.7f;
+            solids.setColor(color[0] * flash, color[1] * flash, color[2] * flash, color[3]);
+        } else if (isFading(platform)) {
+            // Fading effect for breakable platforms
+            float alpha = Math.max(0.3f, 1.0f - (stateTimer * 0.5f));
+            solids.setColor(color[0], color[1], color[2], alpha);
+        } else {
+            solids.setColor(color[0], color[1], color[2], color[3]);
+        }
+
+        solids.rect(platform.getRenderX(interpolation), platform.getRenderY(interpolation),
+                platform.getWidth(), platform.getHeight());
+    }
+
+    public void render(SpriteBatch batch, AssetManager assetManager, Platform platform, float interpolation) {
+        if (platform.isHidden()) {
+            return;
+        }
+        try {
+            if (assetManager.isAssetsLoaded()) {
+                TextureRegion region = assetManager.getPlatformRegion(platform.getType());
+                if (region != null) {
+                    float stateTimer = platform.getStateTimer();
+
+                    // Apply visual effects based on state
+                    if (isFlashing(platform)) {
+                        // Flashing effect for falling platforms
+                        float flash = (float) Math.sin(stateTimer * 10) * 0.3f + 0.7f;
+                        batch.setColor(flash, flash, flash, 1.0f);
+                    } else if (isFading(platform)) {
+                        // Fading effect for breakable platforms
+                        float alpha = Math.max(0.3f, 1.0f - (stateTimer * 0.5f));
+                        batch.setColor(1.0f, 1.0f, 1.0f, alpha);
+                    } else {
+                        batch.setColor(1.0f, 1.0f, 1.0f, 1.0f);
+                    }
+
+                    batch.draw(region, platform.getRenderX(interpolation), platform.getRenderY(interpolation),
+                            platform.getWidth(), platform.getHeight());
+                    batch.setColor(1.0f, 1.0f, 1.0f, 1.0f); // Reset color
+                }
+            }
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error rendering platform: " + e.getMessage());
+        }
+    }
+
+    private boolean isFlashing(Platform platform) {
+        return platform.getType() == Platform.PlatformType.FALLING && platform.isVisited()
+                && platform.getStateTimer() > Platform.FALLING_DELAY * 0.5f;
+    }
+
+    private boolean isFading(Platform platform) {
+        return platform.getType() == Platform.PlatformType.BREAKABLE && platform.isVisited();
+    }
+
+    private static float[] createColorForType(Platform.PlatformType type) {
+        switch (type) {
+            case BOUNCY:
+                return new float[]{1.0f, 0.8f, 0.2f, 1.0f}; // Orange
+            case BREAKABLE:
+                return new float[]{0.8f, 0.4f, 0.2f, 1.0f}; // Brown
+            case MOVING:
+                return new float[]{0.9f, 0.9f, 0.9f, 1.0f}; // White/gray
+            case ICY:
+                return new float[]{0.7f, 0.9f, 1.0f, 1.0f}; // Light blue
+            case FALLING:
+                return new float[]{1.0f, 0.3f, 0.3f, 1.0f}; // Red
+            default:
+                return Constants.PLATFORM_COLOR; // Green
+        }
+    }
+}
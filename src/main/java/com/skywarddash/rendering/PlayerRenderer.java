@@ -0,0 +1,139 @@
+package com.skywarddash.rendering;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.skywarddash.entities.Player;
+import com.skywarddash.utils.AssetManager;
+import com.skywarddash.utils.Constants;
+
+public class PlayerRenderer {
+
+    public void render(SolidRenderer solids, Player player, float interpolation) {
+        float drawX = player.getRenderX(interpolation);
+        float drawY = player.getRenderY(interpolation);
+
+        // Animate color based on current state
+        float[] baseColor = Constants.PLAYER_COLOR;
+        float colorPulse = (float) Math.sin(player.getAnimationTime() * 4f) * 0.1f + 1.0f;
+
+        switch (player.getCurrentAnimation()) {
+            case JUMPING:
+                // Brighter blue when jumping
+                solids.setColor(baseColor[0] + 0.2f, baseColor[1] + 0.2f, baseColor[2], baseColor[3]);
+                break;
+            case RUNNING:
+                // Pulsing effect when running
+                solids.setColor(baseColor[0] * colorPulse, baseColor[1] * colorPulse, baseColor[2] * colorPulse, baseColor[3]);
+                break;
+            case FALLING:
+                // Slightly red tint when falling
+                solids.setColor(baseColor[0] + 0.1f, baseColor[1] - 0.1f, baseColor[2] - 0.1f, baseColor[3]);
+                break;
+            default: // IDLE
+                solids.setColor(baseColor[0], baseColor[1], baseColor[2], baseColor[3]);
+                break;
+        }
+
+        // Draw player with animation effects
+        float width = Constants.PLAYER_WIDTH;
+        float height = Constants.PLAYER_HEIGHT;
+
+        // Scale effect based on animation
+        if (player.getCurrentAnimation() == Player.PlayerAnimationState.JUMPING) {
+            height *= 1.1f; // Stretch when jumping
+            width *= 0.95f;
+        } else if (player.getCurrentAnimation() == Player.PlayerAnimationState.RUNNING) {
+            // Squash effect when running
+            width *= 1.0f + (float) Math.sin(player.getAnimationTime() * 8f) * 0.05f;
+            height *= 1.0f - (float) Math.sin(player.getAnimationTime() * 8f) * 0.03f;
+        }
+
+        solids.rect(drawX, drawY, width, height);
+
+        // Add trail effect for high-speed movement
+        if (Math.abs(player.getVelocity().x) > 300f) {
+            float trailAlpha = Math.min(Math.abs(player.getVelocity().x) / 1000f, 0.8f);
+            solids.setColor(baseColor[0], baseColor[1], baseColor[2], trailAlpha * 0.5f);
+
+            // Draw trail behind player
+            float trailOffset = player.getVelocity().x > 0 ? -20f : 20f;
+            solids.rect(drawX + trailOffset, drawY, width * 0.8f, height * 0.6f);
+        }
+    }
+
+    public void render(SpriteBatch batch, AssetManager assetManager, Player player, float interpolation) {
+        if (assetManager.isAssetsLoaded()) {
+            float drawX = player.getRenderX(interpolation);
+            float drawY = player.getRenderY(interpolation);
+
+            TextureRegion currentFrame = getCurrentAnimationFrame(player, assetManager);
+
+            if (currentFrame != null) {
+                // Determine if we should flip the sprite based on movement direction
+                boolean flipX = player.getVelocity().x < 0; // Flip when moving left
+
+                // Apply any scale effects based on animation state
+                float width = Constants.PLAYER_WIDTH;
+                float height = Constants.PLAYER_HEIGHT;
+
+                if (player.getCurrentAnimation() == Player.PlayerAnimationState.JUMPING) {
+                    height *= 1.05f; // Slight stretch when jumping
+                    width *= 0.98f;
+                } else if (player.getCurrentAnimation() == Player.PlayerAnimationState.RUNNING) {
+                    // Subtle squash effect when running
+                    width *= 1.0f + (float) Math.sin(player.getAnimationTime() * 12f) * 0.03f;
+                    height *= 1.0f - (float) Math.sin(player.getAnimationTime() * 12f) * 0.02f;
+                }
+
+                // Draw the sprite with proper scaling and flipping
+                batch.draw(currentFrame,
+                        flipX ? drawX + width : drawX, drawY,
+                        flipX ? -width : width, height);
+
+                // Add speed trail effect for high-speed movement using texture
+                if (Math.abs(player.getVelocity().x) > 400f && currentFrame != null) {
+                    float trailAlpha = Math.min(Math.abs(player.getVelocity().x) / 1000f, 0.6f);
+                    batch.setColor(1.0f, 1.0f, 1.0f, trailAlpha * 0.4f);
+
+                    // Draw trail behind player
+                    float trailOffset = player.getVelocity().x > 0 ? -25f : 25f;
+                    batch.draw(currentFrame,
+                            flipX ? drawX + trailOffset + width * 0.8f : drawX + trailOffset,
+                            drawY,
+                            flipX ? -width * 0.8f : width * 0.8f, height * 0.7f);
+
+                    batch.setColor(1.0f, 1.0f, 1.0f, 1.0f); // Back to untinted
+                }
+
+            } else {
+                // Fallback - no animation available, just draw idle frame
+                batch.draw(assetManager.playerIdle, drawX, drawY, Constants.PLAYER_WIDTH, Constants.PLAYER_HEIGHT);
+            }
+        }
+    }
+
+    private TextureRegion getCurrentAnimationFrame(Player player, AssetManager assetManager) {
+        switch (player.getCurrentAnimation()) {
+            case IDLE:
+                return assetManager.playerIdle;
+
+            case RUNNING:
+                // Alternate between walk1 and walk2 for running animation
+                float runAnimSpeed = 8f; // Higher speed = faster animation
+                if (assetManager.playerRun1 != null && assetManager.playerRun2 != null) {
+                    return ((int) (player.getAnimationTime() * runAnimSpeed) % 2 == 0) ? assetManager.playerRun1 : assetManager.playerRun2;
+                } else {
+                    return assetManager.playerIdle; // Fallback
+                }
+
+            case JUMPING:
+                return assetManager.playerJump != null ? assetManager.playerJump : assetManager.playerIdle;
+
+            case FALLING:
+                return assetManager.playerFalling != null ? assetManager.playerFalling : assetManager.playerIdle;
+
+            default:
+                return assetManager.playerIdle;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.skywarddash.rendering;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+
+// Draws solid rectangles into a SpriteBatch as tinted quads of a white texel, with the same
+// setColor/rect calls as ShapeRenderer. With the gameplay atlas's white region the shapes share
+// the sprites' texture, so the batch draws them in the same flush instead of switching renderers.
+// Quads carry their colors in their vertices; the batch's own color is left alone.
+public class SolidRenderer implements Disposable {
+    private final SpriteBatch batch;
+    private final float[] vertices = new float[20]; // x, y, color, u, v per corner
+    private Texture texture;
+    private float u, v; // Center of the white texel
+    private Texture ownTexture; // Stand-in for when there is no atlas
+    private float color = Color.WHITE.toFloatBits();
+
+    public SolidRenderer(SpriteBatch batch) {
+        this.batch = batch;
+    }
+
+    // Uses the given white region, or a 1x1 texture of our own when there is none (no atlas). Called
+    // every frame, so the texture comes back if it was disposed while the screen was hidden.
+    public void setRegion(TextureRegion white) {
+        if (white == null) {
+            if (ownTexture == null) {
+                Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+                pixmap.setColor(Color.WHITE);
+                pixmap.fill();
+                ownTexture = new Texture(pixmap);
+                pixmap.dispose();
+            }
+            texture = ownTexture;
+            u = 0.5f;
+            v = 0.5f;
+        } else {
+            texture = white.getTexture();
+            u = (white.getU() + white.getU2()) / 2;
+            v = (white.getV() + white.getV2()) / 2;
+        }
+    }
+
+    public void setColor(float r, float g, float b, float a) {
+        color = Color.toFloatBits(clamp(r), clamp(g), clamp(b), clamp(a));
+    }
+
+    public void rect(float x, float y, float width, float height) {
+        quad(x, y, width, height, color, color);
+    }
+
+    // Fades from one alpha at the bottom edge to another at the top, in a single quad
+    public void verticalGradient(float x, float y, float width, float height, float r, float g, float b,
+                                 float bottomAlpha, float topAlpha) {
+        float bottom = Color.toFloatBits(clamp(r), clamp(g), clamp(b), clamp(bottomAlpha));
+        float top = Color.toFloatBits(clamp(r), clamp(g), clamp(b), clamp(topAlpha));
+        quad(x, y, width, height, bottom, top);
+    }
+
+    private void quad(float x, float y, float width, float height, float bottomColor, float topColor) {
+        float right = x + width;
+        float top = y + height;
+        // Same corner order as SpriteBatch: bottom left, top left, top right, bottom right
+        set(0, x, y, bottomColor);
+        set(5, x, top, topColor);
+        set(10, right, top, topColor);
+        set(15, right, y, bottomColor);
+        batch.draw(texture, vertices, 0, vertices.length);
+    }
+
+    private void set(int offset, float x, float y, float packedColor) {
+        vertices[offset] = x;
+        vertices[offset + 1] = y;
+        vertices[offset + 2] = packedColor;
+        vertices[offset + 3] = u;
+        vertices[offset + 4] = v;
+    }
+
+    // Callers may push a channel past 1 (the jumping player is brightened); packed colors can't
+    private static float clamp(float channel) {
+        return Math.max(0f, Math.min(channel, 1f));
+    }
+
+    @Override
+    public void dispose() {
+        if (ownTexture != null) {
+            ownTexture.dispose();
+            ownTexture = null;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.skywarddash.rendering;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.skywarddash.entities.Platform;
+import com.skywarddash.utils.AssetManager;
+import com.skywarddash.utils.ChunkGenerator;
+import com.skywarddash.utils.Constants;
+import com.skywarddash.utils.PlatformGenerator;
+
+// Bakes the platforms that never move or change (normal, bouncy, icy) into SpriteCaches, one per
+// chunk-high band of the tower, so drawing them costs no vertex work per frame. A band is built
+// the first time it comes on screen, once the generator has passed its top, and released when it
+// leaves the view; its cache is then rebuilt for the next band. dispose() frees the caches
+// (GameScreen calls it from hide()). Everything else still goes through the SpriteBatch.
+public class StaticPlatformCache implements Disposable {
+    private static final String TAG = "StaticPlatformCache";
+    private static final float BAND_HEIGHT = ChunkGenerator.CHUNK_HEIGHT;
+    private static final int MAX_BANDS = 3; // The view, stretched by a platform's height, overlaps three bands at most
+    private static final int BAND_CAPACITY = 64; // Sprites per band; a fuller band is drawn uncached
+    private static final int NO_BAND = Integer.MIN_VALUE;
+
+    private final SpriteCache[] caches = new SpriteCache[MAX_BANDS]; // Created on first use, they need GL
+    private final int[] cacheIds = new int[MAX_BANDS];
+    private final int[] bands = new int[MAX_BANDS]; // Band held by each cache, or NO_BAND
+    // False for a band too full to cache: it keeps its slot, drawn through the batch, until it leaves
+    // the view, so it isn't retried every frame
+    private final boolean[] cached = new boolean[MAX_BANDS];
+    private final Array<Platform> bandPlatforms = new Array<>(false, BAND_CAPACITY);
+
+    public StaticPlatformCache() {
+        clear();
+    }
+
+    // Releases bands that have left the view and builds the ones coming into it
+    public void update(float bottom, float top, PlatformGenerator generator, AssetManager assetManager) {
+        for (int i = 0; i < MAX_BANDS; i++) {
+            if (bands[i] != NO_BAND && (bandTop(bands[i]) + Constants.PLATFORM_THICKNESS < bottom
+                    || bands[i] * BAND_HEIGHT > top)) {
+                bands[i] = NO_BAND;
+            }
+        }
+
+        int firstBand = Math.max(bandOf(bottom - Constants.PLATFORM_THICKNESS), 0);
+        int lastBand = bandOf(top);
+        for (int band = firstBand; band <= lastBand; band++) {
+            // Platforms are generated bottom up, so nothing more lands in a band the tower has passed
+            if (slotOf(band) < 0 && generator.getHighestPlatformY() >= bandTop(band)) {
+                build(band, generator, assetManager);
+            }
+        }
+    }
+
+    private void build(int band, PlatformGenerator generator, AssetManager assetManager) {
+        int slot = slotOf(NO_BAND);
+        if (slot < 0) {
+            return; // No free cache; the band's platforms go through the batch meanwhile
+        }
+
+        bandPlatforms.clear();
+        generator.getSpatialIndex().query(band * BAND_HEIGHT, bandTop(band) + Constants.PLATFORM_THICKNESS,
+                bandPlatforms);
+        int count = 0;
+        for (int i = 0; i < bandPlatforms.size; i++) {
+            if (covers(bandPlatforms.get(i), band)) {
+                count++;
+            }
+        }
+        bands[slot] = band;
+        cached[slot] = count <= BAND_CAPACITY;
+        if (!cached[slot]) {
+            Gdx.app.error(TAG, "Band " + band + " has " + count + " static platforms, drawing it uncached");
+            bandPlatforms.clear();
+            return;
+        }
+
+        if (caches[slot] == null) {
+            caches[slot] = new SpriteCache(BAND_CAPACITY, false);
+        }
+        SpriteCache cache = caches[slot];
+        cache.clear();
+        cache.beginCache();
+        for (int i = 0; i < bandPlatforms.size; i++) {
+            Platform platform = bandPlatforms.get(i);
+            if (covers(platform, band)) {
+                TextureRegion region = assetManager.getPlatformRegion(platform.getType());
+                cache.add(region, platform.getX(), platform.getY(), platform.getWidth(), platform.getHeight());
+            }
+        }
+        cacheIds[slot] = cache.endCache();
+        bandPlatforms.clear();
+    }
+
+    public boolean hasBands() {
+        for (int i = 0; i < MAX_BANDS; i++) {
+            if (bands[i] != NO_BAND && cached[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void draw(Matrix4 projection) {
+        for (int i = 0; i < MAX_BANDS; i++) {
+            if (bands[i] != NO_BAND && cached[i]) {
+                caches[i].setProjectionMatrix(projection);
+                caches[i].begin();
+                caches[i].draw(cacheIds[i]);
+                caches[i].end();
+            }
+        }
+    }
+
+    // Whether the platform is drawn by a cache, so the batch should skip it
+    public boolean isCached(Platform platform) {
+        if (!platform.isStatic()) {
+            return false;
+        }
+        int slot = slotOf(bandOf(platform.getY()));
+        return slot >= 0 && cached[slot];
+    }
+
+    // Drops every band, e.g. when the tower restarts or the atlas the caches point into goes away
+    public void clear() {
+        for (int i = 0; i < MAX_BANDS; i++) {
+            bands[i] = NO_BAND;
+        }
+    }
+
+    private boolean covers(Platform platform, int band) {
+        return platform.isStatic() && bandOf(platform.getY()) == band;
+    }
+
+    private int slotOf(int band) {
+        for (int i = 0; i < MAX_BANDS; i++) {
+            if (bands[i] == band) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int bandOf(float y) {
+        return (int) Math.floor(y / BAND_HEIGHT);
+    }
+
+    private static float bandTop(int band) {
+        return (band + 1) * BAND_HEIGHT;
+    }
+
+    @Override
+    public void dispose() {
+        clear();
+        for (int i = 0; i < MAX_BANDS; i++) {
+            if (caches[i] != null) {
+                caches[i].dispose();
+                caches[i] = null;
+            }
+        }
+    }
+}
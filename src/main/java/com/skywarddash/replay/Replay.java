@@ -0,0 +1,171 @@
+package com.skywarddash.replay;
+
+import com.skywarddash.simulation.PlayerInput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+// One recorded run: the world seed, the tick rate and the player's input for every simulation tick.
+// Since the simulation is deterministic this is all it takes to reproduce the run exactly.
+//
+// File layout (all integers are unsigned LEB128 varints):
+//   "SDRP"  magic
+//   version
+//   seed    zigzag encoded
+//   tick rate as raw float bits
+//   tick count
+//   runs    (length << 3 | input bits) - consecutive ticks with the same input collapse into one run,
+//           so holding a direction for seconds costs a couple of bytes
+public class Replay {
+    public static final int VERSION = 1;
+    private static final byte[] MAGIC = {'S', 'D', 'R', 'P'};
+    private static final int RUN_SHIFT = 3;
+    private static final int MAX_READ_CAPACITY = 1 << 16; // About 18 minutes at 60 ticks per second
+
+    private final long seed;
+    private final float tickRate;
+    private byte[] ticks;
+    private int tickCount;
+
+    public Replay(long seed, float tickRate) {
+        this(seed, tickRate, 1024);
+    }
+
+    private Replay(long seed, float tickRate, int capacity) {
+        this.seed = seed;
+        this.tickRate = tickRate;
+        this.ticks = new byte[Math.max(capacity, 16)];
+        this.tickCount = 0;
+    }
+
+    public void addTick(PlayerInput input) {
+        addTick(input.toBits());
+    }
+
+    private void addTick(int bits) {
+        if (tickCount == ticks.length) {
+            ticks = Arrays.copyOf(ticks, ticks.length << 1);
+        }
+        ticks[tickCount++] = (byte) bits;
+    }
+
+    public void readTick(int tick, PlayerInput input) {
+        input.setBits(ticks[tick]);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public float getTickRate() {
+        return tickRate;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        out.write(MAGIC);
+        writeVarint(out, VERSION);
+        writeVarint(out, (seed << 1) ^ (seed >> 63));
+        writeVarint(out, Float.floatToIntBits(tickRate) & 0xFFFFFFFFL);
+        writeVarint(out, tickCount);
+
+        int i = 0;
+        while (i < tickCount) {
+            int bits = ticks[i];
+            int runEnd = i + 1;
+            while (runEnd < tickCount && ticks[runEnd] == bits) {
+                runEnd++;
+            }
+            writeVarint(out, ((long) (runEnd - i) << RUN_SHIFT) | bits);
+            i = runEnd;
+        }
+    }
+
+    public static Replay read(InputStream in) throws IOException {
+        for (byte expected : MAGIC) {
+            if (readByte(in) != (expected & 0xFF)) {
+                throw new IOException("Not a Skyward Dash replay");
+            }
+        }
+
+        int version = (int) readVarint(in);
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+
+        long zigzagSeed = readVarint(in);
+        long seed = (zigzagSeed >>> 1) ^ -(zigzagSeed & 1);
+        float tickRate = Float.intBitsToFloat((int) readVarint(in));
+        long tickCount = readVarint(in);
+        if (tickCount > Integer.MAX_VALUE) {
+            throw new IOException("Replay too long: " + tickCount + " ticks");
+        }
+
+        // The header's count isn't trusted for the allocation (a corrupt file may claim billions of
+        // ticks); the buffer grows as runs are actually read
+        Replay replay = new Replay(seed, tickRate, (int) Math.min(tickCount, MAX_READ_CAPACITY));
+        while (replay.tickCount < tickCount) {
+            long run = readVarint(in);
+            long length = run >>> RUN_SHIFT;
+            if (length == 0 || replay.tickCount + length > tickCount) {
+                throw new IOException("Corrupt replay run at tick " + replay.tickCount);
+            }
+            int bits = (int) (run & PlayerInput.ALL_BITS);
+            for (long i = 0; i < length; i++) {
+                replay.addTick(bits);
+            }
+        }
+        return replay;
+    }
+
+    public void save(File file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    public static Replay load(File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte(in);
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Unexpected end of replay");
+        }
+        return b;
+    }
+}
@@ -0,0 +1,44 @@
+package com.skywarddash.replay;
+
+import com.skywarddash.simulation.InputSource;
+import com.skywarddash.simulation.PlayerInput;
+
+// Feeds a recorded run back into the simulation tick by tick. Once the recording runs out
+// the player lets go of every key.
+public class ReplayPlayback implements InputSource {
+    private final Replay replay;
+    private int tick;
+
+    public ReplayPlayback(Replay replay) {
+        this.replay = replay;
+        this.tick = 0;
+    }
+
+    @Override
+    public void poll() {
+        // Nothing to poll - the input is already known
+    }
+
+    @Override
+    public void readInput(PlayerInput input) {
+        if (tick < replay.getTickCount()) {
+            replay.readTick(tick, input);
+            tick++;
+        } else {
+            input.clear();
+        }
+    }
+
+    @Override
+    public void reset() {
+        tick = 0;
+    }
+
+    public boolean isFinished() {
+        return tick >= replay.getTickCount();
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+}
@@ -0,0 +1,43 @@
+package com.skywarddash.replay;
+
+import com.skywarddash.simulation.InputSource;
+import com.skywarddash.simulation.PlayerInput;
+
+// Passes another input source through unchanged while recording every tick it produces
+public class ReplayRecorder implements InputSource {
+    private final InputSource source;
+    private final float tickRate;
+    private Replay replay;
+
+    public ReplayRecorder(InputSource source, long seed, float tickRate) {
+        this.source = source;
+        this.tickRate = tickRate;
+        this.replay = new Replay(seed, tickRate);
+    }
+
+    @Override
+    public void poll() {
+        source.poll();
+    }
+
+    @Override
+    public void readInput(PlayerInput input) {
+        source.readInput(input);
+        replay.addTick(input);
+    }
+
+    @Override
+    public void reset() {
+        source.reset();
+    }
+
+    // Starts recording a new run; the previous replay stays valid for the caller
+    public void restart(long seed) {
+        reset();
+        replay = new Replay(seed, tickRate);
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+}
@@ -4,41 +4,70 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.skywarddash.SkywardDashGame;
-import com.skywarddash.entities.DangerFloor;
 import com.skywarddash.entities.Platform;
 import com.skywarddash.entities.Player;
+import com.skywarddash.rendering.DangerFloorRenderer;
+import com.skywarddash.rendering.GameHud;
+import com.skywarddash.rendering.PlatformRenderer;
+import com.skywarddash.rendering.PlayerRenderer;
+import com.skywarddash.rendering.SolidRenderer;
+import com.skywarddash.rendering.StaticPlatformCache;
+import com.skywarddash.replay.ReplayPlayback;
+import com.skywarddash.replay.ReplayRecorder;
+import com.skywarddash.simulation.InputSource;
+import com.skywarddash.simulation.PlayerInput;
+import com.skywarddash.simulation.World;
+import com.skywarddash.simulation.WorldConfig;
+import com.skywarddash.simulation.WorldListener;
 import com.skywarddash.systems.CameraController;
-import com.skywarddash.systems.CollisionSystem;
 import com.skywarddash.systems.InputHandler;
-import com.skywarddash.systems.ScoreSystem;
+import com.skywarddash.utils.AssetGroup;
 import com.skywarddash.utils.Constants;
-import com.skywarddash.utils.PlatformGenerator;
 
-public class GameScreen implements Screen {
+import java.io.File;
+import java.io.IOException;
+
+public class GameScreen implements Screen, WorldListener {
+    private static final String TAG = "GameScreen";
+    // Extra height queried past the camera edges, covering how far a platform can move between the
+    // tick it is indexed at and the interpolated position it is drawn at
+    private static final float CULL_MARGIN = 64f;
+    private static final float CLOUD_HEIGHT = 200f;
+
     private SkywardDashGame game;
     private OrthographicCamera camera;
     private Viewport viewport;
 
-    // Game entities
-    private Player player;
-    private DangerFloor dangerFloor;
-    private PlatformGenerator platformGenerator;
+    // Simulation
+    private World world;
+    private PlayerInput playerInput;
 
-    // Game systems
-    private InputHandler inputHandler;
-    private CollisionSystem collisionSystem;
-    private ScoreSystem scoreSystem;
+    // Presentation systems
+    private InputSource inputSource; // Keyboard, or a replay being played back
+    private ReplayRecorder recorder; // Only set when recording with --record
+    private ReplayPlayback playback; // Only set when playing back with --replay
     private CameraController cameraController;
+    private PlayerRenderer playerRenderer;
+    private PlatformRenderer platformRenderer;
+    private StaticPlatformCache staticPlatforms;
+    private SolidRenderer solids; // Danger floor and shape fallbacks, drawn in the sprite batch
+    private DangerFloorRenderer dangerFloorRenderer;
+    private GameHud hud;
 
     // Game state
-    private boolean gameOver;
     private boolean paused;
-    private float gameTime;
+
+    // Fixed-tick simulation state
+    private final float timeStep;
+    private float accumulator;
+    private float renderAlpha = 1.0f; // How far the last rendered frame is between the previous and current tick
+    private final Array<Platform> visiblePlatforms = new Array<>(false, 64); // Refilled every frame
 
     public GameScreen(SkywardDashGame game) {
         this.game = game;
@@ -49,98 +78,145 @@ public class GameScreen implements Screen {
         viewport = new FitViewport(Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT, camera);
         camera.position.set(Constants.WORLD_WIDTH / 2, 200f, 0); // Start closer to ground level
 
-        // Initialize game entities
-        player = new Player(Constants.PLAYER_START_X, Constants.PLAYER_START_Y);
-        dangerFloor = new DangerFloor(-100.0f); // Start well below ground level
-        platformGenerator = new PlatformGenerator();
+        // A replay only reproduces the run at the tick rate it was recorded with
+        timeStep = 1.0f / (game.replay != null ? game.replay.getTickRate() : game.simulationTickRate);
+        accumulator = 0;
+
+        // Initialize simulation
+        WorldConfig config = new WorldConfig();
+        config.timeStep = timeStep;
+        world = new World(nextSeed(), config);
+        world.setListener(this);
+        world.getPlatformGenerator().enableBackgroundGeneration(); // Keep chunk generation off the render thread
+        playerInput = new PlayerInput();
 
         // Initialize systems
-        inputHandler = new InputHandler();
-        collisionSystem = new CollisionSystem();
-        scoreSystem = new ScoreSystem();
+        if (game.replay != null) {
+            playback = new ReplayPlayback(game.replay);
+            inputSource = playback;
+        } else if (game.recordReplayPath != null) {
+            recorder = new ReplayRecorder(new InputHandler(), world.getSeed(), game.simulationTickRate);
+            inputSource = recorder;
+        } else {
+            inputSource = new InputHandler();
+        }
         cameraController = new CameraController(camera);
+        playerRenderer = new PlayerRenderer();
+        platformRenderer = new PlatformRenderer();
+        staticPlatforms = new StaticPlatformCache();
+        solids = new SolidRenderer(game.batch);
+        dangerFloorRenderer = new DangerFloorRenderer();
+        hud = new GameHud();
 
-        gameOver = false;
         paused = false;
-        gameTime = 0;
     }
 
     @Override
     public void show() {
+        game.assetManager.load(AssetGroup.GAME);
+        game.assetManager.finishLoading(AssetGroup.GAME);
+
         // Start background music
         game.assetManager.playMusic(game.assetManager.backgroundMusic, true, 0.3f);
     }
 
     @Override
     public void render(float delta) {
-        if (!gameOver && !paused) {
-            update(delta);
+        inputSource.poll();
+
+        if (!world.isGameOver() && !paused) {
+            if (Constants.FIXED_TIMESTEP) {
+                runFixedSteps(delta);
+            } else {
+                // Legacy variable-delta mode - one simulation step per rendered frame
+                inputSource.readInput(playerInput);
+                world.step(playerInput, delta);
+                renderAlpha = 1.0f;
+            }
+
+            // Camera follows the interpolated player so it moves smoothly at any refresh rate
+            Player player = world.getPlayer();
+            cameraController.update(player.getRenderY(renderAlpha), player.getVelocity().y, delta);
         }
 
         handleInput();
         draw();
     }
 
-    private void update(float delta) {
-        // Update game time
-        gameTime += delta;
+    private void runFixedSteps(float delta) {
+        accumulator += Math.min(delta, Constants.MAX_FRAME_DELTA);
 
-        // Update game entities
-        player.update(delta);
-        dangerFloor.update(delta, scoreSystem.getScore(), gameTime, player.getPosition().y);
-        platformGenerator.update(player);
+        int steps = 0;
+        while (accumulator >= timeStep && !world.isGameOver()) {
+            if (steps == Constants.MAX_SIMULATION_STEPS_PER_FRAME) {
+                // Too far behind - drop the backlog instead of spiralling into ever longer frames
+                accumulator %= timeStep;
+                break;
+            }
 
-        // Update all platforms and handle removal
-        updatePlatforms(delta);
+            inputSource.readInput(playerInput);
+            world.step(playerInput, timeStep);
+            accumulator -= timeStep;
+            steps++;
+        }
 
-        // Handle collisions
-        collisionSystem.checkPlatformCollisions(player, platformGenerator.getPlatforms(), game.assetManager);
+        renderAlpha = world.isGameOver() ? 1.0f : accumulator / timeStep;
+    }
 
-        // Check if player hit the danger floor
-        if (collisionSystem.checkDangerFloorCollision(player, dangerFloor)) {
-            gameOver();
+    // A seed given on the command line (or by a replay) replays the same tower on every restart
+    private long nextSeed() {
+        if (game.replay != null) {
+            return game.replay.getSeed();
         }
+        return game.fixedSeed != null ? game.fixedSeed : MathUtils.random.nextLong();
+    }
 
-        // Update score
-        scoreSystem.updateScore(player);
+    // The replay file always holds the most recent run
+    private void saveRecording() {
+        if (recorder == null || recorder.getReplay().getTickCount() == 0) {
+            return;
+        }
 
-        // Update camera
-        cameraController.update(player, delta);
+        try {
+            recorder.getReplay().save(new File(game.recordReplayPath));
+            Gdx.app.log(TAG, "Saved replay of " + recorder.getReplay().getTickCount() + " ticks to "
+                    + game.recordReplayPath);
+        } catch (IOException e) {
+            Gdx.app.error(TAG, "Could not save replay: " + e.getMessage());
+        }
     }
 
-    private void updatePlatforms(float delta) {
-        try {
-            // Update all platforms
-            for (Platform platform : platformGenerator.getPlatforms()) {
-                platform.update(delta);
-            }
+    @Override
+    public void onPlayerJumped() {
+        game.assetManager.playSound(game.assetManager.jumpSound, 0.7f);
+    }
 
-            // Remove platforms that are marked for removal AND are far below the player
-            float playerY = player.getPosition().y;
-            float removalThreshold = playerY - Constants.WORLD_HEIGHT * 2; // Keep platforms 2 screen heights below
+    @Override
+    public void onPlayerLanded(Platform platform) {
+        if (platform.getType() == Platform.PlatformType.BOUNCY) {
+            game.assetManager.playSound(game.assetManager.comboSound, 0.8f);
+        } else {
+            game.assetManager.playSound(game.assetManager.landingSound, 0.6f);
+        }
+    }
 
-            platformGenerator.removePlatforms(platform -> {
-                // Only remove if marked for removal OR too far below player
-                return platform.shouldRemove() || platform.getPosition().y < removalThreshold;
-            });
+    @Override
+    public void onGameOver(int finalScore) {
+        game.assetManager.saveHighScore(finalScore);
+        saveRecording();
 
-        } catch (Exception e) {
-            Gdx.app.error("GameScreen", "Error updating platforms: " + e.getMessage());
-        }
+        // Play game over sound
+        game.assetManager.playSound(game.assetManager.gameOverSound, 0.7f);
     }
 
     private void handleInput() {
-        if (!gameOver) {
-            inputHandler.handleInput(player, Gdx.graphics.getDeltaTime(), game.assetManager);
-        }
-
         // Pause/unpause
         if (Gdx.input.isKeyJustPressed(Input.Keys.P)) {
             paused = !paused;
         }
 
         // Restart game
-        if (gameOver && Gdx.input.isKeyJustPressed(Input.Keys.R)) {
+        if (world.isGameOver() && Gdx.input.isKeyJustPressed(Input.Keys.R)) {
             restartGame();
         }
 
@@ -151,202 +227,136 @@ public class GameScreen implements Screen {
     }
 
     private void draw() {
+        Player player = world.getPlayer();
+        // Only platforms on screen are submitted; the generator keeps several screens more alive
+        Array<Platform> platforms = findVisiblePlatforms();
+
         ScreenUtils.clear(Constants.BACKGROUND_COLOR[0], Constants.BACKGROUND_COLOR[1],
                 Constants.BACKGROUND_COLOR[2], Constants.BACKGROUND_COLOR[3]);
 
-        // Set the projection matrix
-        game.shapeRenderer.setProjectionMatrix(camera.combined);
         game.batch.setProjectionMatrix(camera.combined);
+        boolean textured = game.assetManager.isAssetsLoaded();
+        if (textured) {
+            // Static platforms come from their band's cache, built once; only the rest are batched
+            staticPlatforms.update(camera.position.y - camera.viewportHeight / 2,
+                    camera.position.y + camera.viewportHeight / 2, world.getPlatformGenerator(), game.assetManager);
+        }
+        // Shapes are tinted quads of the atlas's white texel, so they don't switch textures either
+        solids.setRegion(game.assetManager.whiteRegion);
 
-        // Draw background layers using SpriteBatch if textures are available
-        if (game.assetManager.isAssetsLoaded() && game.assetManager.backgroundTexture != null) {
-            game.batch.begin();
-
-            // Draw main background (fixed gradient)
-            game.batch.draw(game.assetManager.backgroundTexture,
-                    camera.position.x - Constants.WORLD_WIDTH / 2,
-                    camera.position.y - Constants.WORLD_HEIGHT / 2,
-                    Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT);
-
-            // Draw parallax cloud layers if available
-            if (game.assetManager.cloudsTexture != null) {
-                // Layer 1: Slow moving clouds (far background)
-                float cloud1Offset = (camera.position.y * 0.1f) % Constants.WORLD_WIDTH;
-                game.batch.draw(game.assetManager.cloudsTexture,
-                        camera.position.x - Constants.WORLD_WIDTH / 2 - cloud1Offset,
-                        camera.position.y + Constants.WORLD_HEIGHT / 3,
-                        Constants.WORLD_WIDTH, 200);
-
-                // Draw second instance for seamless scrolling
-                game.batch.draw(game.assetManager.cloudsTexture,
-                        camera.position.x - Constants.WORLD_WIDTH / 2 - cloud1Offset + Constants.WORLD_WIDTH,
-                        camera.position.y + Constants.WORLD_HEIGHT / 3,
-                        Constants.WORLD_WIDTH, 200);
-
-                // Layer 2: Medium speed clouds (mid background)
-                float cloud2Offset = (camera.position.y * 0.15f) % Constants.WORLD_WIDTH;
-                game.batch.setColor(1.0f, 1.0f, 1.0f, 0.6f); // More transparent
-                game.batch.draw(game.assetManager.cloudsTexture,
-                        camera.position.x - Constants.WORLD_WIDTH / 2 - cloud2Offset,
-                        camera.position.y + Constants.WORLD_HEIGHT / 4,
-                        Constants.WORLD_WIDTH, 200);
-
-                game.batch.draw(game.assetManager.cloudsTexture,
-                        camera.position.x - Constants.WORLD_WIDTH / 2 - cloud2Offset + Constants.WORLD_WIDTH,
-                        camera.position.y + Constants.WORLD_HEIGHT / 4,
-                        Constants.WORLD_WIDTH, 200);
-
-                // Reset color for other elements
-                game.batch.setColor(1.0f, 1.0f, 1.0f, 1.0f);
-            }
+        // The whole frame goes through one batch: background, platforms and player come from the
+        // gameplay atlas (or are solid shapes without it), then the danger floor and the HUD
+        game.batch.begin();
 
-            game.batch.end();
-        }
+        if (textured) {
+            drawBackground();
 
-        // Draw game entities with textures first
-        if (game.assetManager.isAssetsLoaded()) {
-            game.batch.begin();
+            if (staticPlatforms.hasBands()) {
+                // The caches have their own mesh and shader, so the batch flushes around them
+                game.batch.end();
+                staticPlatforms.draw(camera.combined);
+                game.batch.begin();
+            }
 
             // Draw platforms with textures
-            for (Platform platform : platformGenerator.getPlatforms()) {
-                platform.render(game.batch, game.assetManager);
+            for (int i = 0; i < platforms.size; i++) {
+                Platform platform = platforms.get(i);
+                if (!staticPlatforms.isCached(platform)) {
+                    platformRenderer.render(game.batch, game.assetManager, platform, renderAlpha);
+                }
             }
 
             // Draw player with texture
-            player.render(game.batch, game.assetManager);
-
-            game.batch.end();
-        }
-
-        // Draw entities that don't have textures or fallback using shapes
-        game.shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
-        // Draw danger floor (no texture for this)
-        dangerFloor.render(game.shapeRenderer);
-
-        // Fallback rendering if assets aren't loaded
-        if (!game.assetManager.isAssetsLoaded()) {
-            // Draw platforms
-            for (Platform platform : platformGenerator.getPlatforms()) {
-                platform.render(game.shapeRenderer);
+            playerRenderer.render(game.batch, game.assetManager, player, renderAlpha);
+        } else {
+            // Fallback rendering if assets aren't loaded
+            for (int i = 0; i < platforms.size; i++) {
+                platformRenderer.render(solids, platforms.get(i), renderAlpha);
             }
-
-            // Draw player
-            player.render(game.shapeRenderer);
+            playerRenderer.render(solids, player, renderAlpha);
         }
 
-        game.shapeRenderer.end();
+        // Draw danger floor (no texture for this)
+        dangerFloorRenderer.render(solids, world.getDangerFloor());
 
         // Draw UI
         drawUI();
+
+        game.batch.end();
     }
 
-    private void drawUI() {
-        game.batch.begin();
+    // Looks up the platforms inside the camera's view in the spatial index, which holds every
+    // platform that isn't hidden, filed by the height of its top surface
+    private Array<Platform> findVisiblePlatforms() {
+        float bottom = camera.position.y - camera.viewportHeight / 2;
+        float top = camera.position.y + camera.viewportHeight / 2;
+        visiblePlatforms.clear();
+        world.getPlatformGenerator().getSpatialIndex().query(bottom - CULL_MARGIN,
+                top + Constants.PLATFORM_THICKNESS + CULL_MARGIN, visiblePlatforms);
+        return visiblePlatforms;
+    }
 
-        // Score
-        game.font.draw(game.batch, "Score: " + scoreSystem.getScore(),
-                camera.position.x - Constants.WORLD_WIDTH / 2 + 20f,
-                camera.position.y + Constants.WORLD_HEIGHT / 2 - 20f);
-
-        // Combo counter with speed multiplier
-        if (player.getComboCount() >= Constants.COMBO_START_THRESHOLD) {
-            game.font.getData().setScale(1.5f);
-            game.font.setColor(1.0f, 0.8f, 0.2f, 1.0f); // Gold
-            game.font.draw(game.batch, "COMBO x" + player.getComboCount(),
-                    camera.position.x - Constants.WORLD_WIDTH / 2 + 20f,
-                    camera.position.y + Constants.WORLD_HEIGHT / 2 - 50f);
-
-            game.font.getData().setScale(1.2f);
-            game.font.setColor(0.3f, 1.0f, 0.3f, 1.0f); // Bright green
-            game.font.draw(game.batch, "Speed: " + String.format("%.1f", player.getCurrentSpeedMultiplier()) + "x",
-                    camera.position.x - Constants.WORLD_WIDTH / 2 + 20f,
-                    camera.position.y + Constants.WORLD_HEIGHT / 2 - 80f);
-            game.font.getData().setScale(1.0f);
+    private void drawBackground() {
+        if (game.assetManager.backgroundRegion == null) {
+            return;
         }
 
-        // Floor counter
-        game.font.setColor(0.7f, 0.7f, 1.0f, 1.0f); // Light blue
-        game.font.draw(game.batch, "Floor: " + platformGenerator.getCurrentFloor(),
-                camera.position.x - Constants.WORLD_WIDTH / 2 + 20f,
-                camera.position.y + Constants.WORLD_HEIGHT / 2 - 110f);
-
-        // Momentum indicator
-        game.font.setColor(1.0f, 1.0f, 1.0f, 1.0f); // White
-        game.font.draw(game.batch, "Momentum: " + String.format("%.1f", player.getMomentum() * 100) + "%",
-                camera.position.x - Constants.WORLD_WIDTH / 2 + 20f,
-                camera.position.y + Constants.WORLD_HEIGHT / 2 - 140f);
-
-        // Platform type legend (smaller text)
-        game.font.getData().setScale(0.8f);
-        game.font.setColor(0.9f, 0.9f, 0.9f, 0.8f);
-        float legendX = camera.position.x + Constants.WORLD_WIDTH / 2 - 250f;
-        float legendY = camera.position.y + Constants.WORLD_HEIGHT / 2 - 20f;
-
-        game.font.draw(game.batch, "Platform Types:", legendX, legendY);
-        game.font.setColor(0.4f, 0.8f, 0.2f, 1.0f); // Green
-        game.font.draw(game.batch, "■ Normal - Standard platform", legendX, legendY - 25f);
-        game.font.setColor(0.6f, 0.6f, 0.6f, 1.0f); // Gray
-        game.font.draw(game.batch, "■ Bouncy - Extra jump boost", legendX, legendY - 50f);
-        game.font.setColor(0.8f, 0.4f, 0.2f, 1.0f); // Brown
-        game.font.draw(game.batch, "■ Breakable - Disappears after use", legendX, legendY - 75f);
-        game.font.setColor(0.9f, 0.9f, 0.9f, 1.0f); // White
-        game.font.draw(game.batch, "■ Moving - Slides left and right", legendX, legendY - 100f);
-
-        // Reset font
-        game.font.getData().setScale(1.0f);
-        game.font.setColor(1.0f, 1.0f, 1.0f, 1.0f);
-
-        // Game over screen
-        if (gameOver) {
-            game.font.getData().setScale(2.0f);
-            game.font.draw(game.batch, "GAME OVER!",
-                    camera.position.x - 80f, camera.position.y + 50f);
-            game.font.getData().setScale(1.0f);
-            game.font.draw(game.batch, "Final Score: " + scoreSystem.getScore(),
-                    camera.position.x - 100f, camera.position.y);
-            game.font.draw(game.batch, "High Score: " + game.assetManager.getHighScore(),
-                    camera.position.x - 100f, camera.position.y - 30f);
-            game.font.draw(game.batch, "Press R to restart, ESC for menu",
-                    camera.position.x - 150f, camera.position.y - 60f);
+        // Draw main background (fixed gradient)
+        game.batch.draw(game.assetManager.backgroundRegion,
+                camera.position.x - Constants.WORLD_WIDTH / 2,
+                camera.position.y - Constants.WORLD_HEIGHT / 2,
+                Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT);
+
+        // Draw parallax cloud layers if available
+        if (game.assetManager.cloudsRegion != null) {
+            // Layer 1: Slow moving clouds (far background)
+            float cloud1Offset = (camera.position.y * 0.1f) % Constants.WORLD_WIDTH;
+            drawCloudLayer(cloud1Offset, camera.position.y + Constants.WORLD_HEIGHT / 3);
+
+            // Layer 2: Medium speed clouds (mid background)
+            float cloud2Offset = (camera.position.y * 0.15f) % Constants.WORLD_WIDTH;
+            game.batch.setColor(1.0f, 1.0f, 1.0f, 0.6f); // More transparent
+            drawCloudLayer(cloud2Offset, camera.position.y + Constants.WORLD_HEIGHT / 4);
+
+            // Reset color for other elements
+            game.batch.setColor(1.0f, 1.0f, 1.0f, 1.0f);
         }
+    }
 
-        // Pause screen
-        if (paused) {
-            game.font.getData().setScale(2.0f);
-            game.font.draw(game.batch, "PAUSED",
-                    camera.position.x - 50f, camera.position.y);
-            game.font.getData().setScale(1.0f);
-            game.font.draw(game.batch, "Press P to continue",
-                    camera.position.x - 80f, camera.position.y - 40f);
+    // Draws a cloud strip scrolled by the given offset, plus a second instance for seamless
+    // scrolling; an instance that has scrolled entirely off screen is skipped
+    private void drawCloudLayer(float offset, float y) {
+        float left = camera.position.x - camera.viewportWidth / 2;
+        float x = camera.position.x - Constants.WORLD_WIDTH / 2 - offset;
+        for (int i = 0; i < 2; i++, x += Constants.WORLD_WIDTH) {
+            if (x < left + camera.viewportWidth && x + Constants.WORLD_WIDTH > left) {
+                game.batch.draw(game.assetManager.cloudsRegion, x, y, Constants.WORLD_WIDTH, CLOUD_HEIGHT);
+            }
         }
-
-        game.batch.end();
     }
 
-    private void gameOver() {
-        gameOver = true;
-        game.assetManager.saveHighScore(scoreSystem.getScore());
-
-        // Play game over sound
-        game.assetManager.playSound(game.assetManager.gameOverSound, 0.7f);
+    private void drawUI() {
+        hud.draw(game.batch, game.font, camera.position.x, camera.position.y, world,
+                world.isGameOver() ? game.assetManager.getHighScore() : 0, paused,
+                playback != null, playback != null && playback.isFinished());
     }
 
     private void restartGame() {
-        player.setPosition(Constants.PLAYER_START_X, Constants.PLAYER_START_Y);
-        player.getVelocity().set(0, 0);
-        player.resetCombo();
-
-        dangerFloor = new DangerFloor(-100.0f); // Start well below ground level
-        platformGenerator.reset();
-        scoreSystem.reset();
+        world.reset(nextSeed());
+        staticPlatforms.clear(); // Cached bands belong to the old tower
 
         camera.position.set(Constants.WORLD_WIDTH / 2, 200f, 0);
         cameraController.reset(); // Reset camera controller state
 
-        gameOver = false;
+        if (recorder != null) {
+            recorder.restart(world.getSeed());
+        } else {
+            inputSource.reset();
+        }
+        accumulator = 0;
+        renderAlpha = 1.0f;
+
         paused = false;
-        gameTime = 0;
     }
 
     @Override
@@ -368,10 +378,24 @@ public class GameScreen implements Screen {
     public void hide() {
         // Stop background music when leaving game screen
         game.assetManager.stopMusic(game.assetManager.backgroundMusic);
+
+        // Keep a run that was abandoned midway
+        if (!world.isGameOver()) {
+            saveRecording();
+        }
+
+        // The screen isn't shown again once left (and dispose() is never called), so stop the
+        // generation thread and free the GL resources here
+        world.getPlatformGenerator().dispose();
+        staticPlatforms.dispose(); // The caches also point into the atlas, which goes with the group
+        solids.dispose(); // Its stand-in texture, if the atlas had no white region
+        game.assetManager.unload(AssetGroup.GAME);
     }
 
     @Override
     public void dispose() {
-
+        world.getPlatformGenerator().dispose();
+        staticPlatforms.dispose();
+        solids.dispose();
     }
 }
\ No newline at end of file
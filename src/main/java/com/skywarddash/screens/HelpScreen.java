@@ -9,6 +9,7 @@ import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.skywarddash.SkywardDashGame;
+import com.skywarddash.utils.AssetGroup;
 import com.skywarddash.utils.Constants;
 
 public class HelpScreen implements Screen {
@@ -29,6 +30,8 @@ public class HelpScreen implements Screen {
 
     @Override
     public void show() {
+        game.assetManager.load(AssetGroup.INFO);
+        game.assetManager.finishLoading(AssetGroup.INFO);
     }
 
     @Override
@@ -291,6 +294,7 @@ public class HelpScreen implements Screen {
 
     @Override
     public void hide() {
+        game.assetManager.unload(AssetGroup.INFO);
     }
 
     @Override
@@ -4,15 +4,26 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.skywarddash.SkywardDashGame;
+import com.skywarddash.rendering.HudText;
+import com.skywarddash.utils.AssetGroup;
 import com.skywarddash.utils.Constants;
 
 public class MenuScreen implements Screen {
+    private static final String INSTRUCTIONS = "Use ↑↓ Arrow Keys to navigate, Enter to select";
+    private static final float OPTION_SCALE = 1.8f;
+    private static final float INSTRUCTIONS_SCALE = 1.2f;
+
     private final String[] menuOptions = {"Start Game", "Settings", "High Score", "Help", "About", "Exit"};
+    // Text widths never change, so they are measured once instead of every frame
+    private final float[] optionWidths = new float[menuOptions.length];
+    private final float instructionsWidth;
+    private final HudText highScoreText = new HudText("High Score: ", "", 0, 1.5f, 1.0f, 0.9f, 0.3f, 1.0f); // Gold
     private SkywardDashGame game;
     private OrthographicCamera camera;
     private Viewport viewport;
@@ -25,10 +36,25 @@ public class MenuScreen implements Screen {
         camera.setToOrtho(false, Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT);
         viewport = new FitViewport(Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT, camera);
         camera.position.set(Constants.WORLD_WIDTH / 2, Constants.WORLD_HEIGHT / 2, 0);
+
+        GlyphLayout layout = new GlyphLayout();
+        game.font.getData().setScale(OPTION_SCALE);
+        for (int i = 0; i < menuOptions.length; i++) {
+            layout.setText(game.font, menuOptions[i]);
+            optionWidths[i] = layout.width;
+        }
+        game.font.getData().setScale(INSTRUCTIONS_SCALE);
+        layout.setText(game.font, INSTRUCTIONS);
+        instructionsWidth = layout.width;
+        game.font.getData().setScale(1.0f);
     }
 
     @Override
     public void show() {
+        // Usually preloaded by the splash screen or still loaded from the previous visit
+        game.assetManager.load(AssetGroup.MENU);
+        game.assetManager.finishLoading(AssetGroup.MENU);
+
         // Start menu music
         game.assetManager.playMusic(game.assetManager.menuMusic, true, 0.2f);
     }
@@ -206,7 +232,7 @@ public class MenuScreen implements Screen {
         }
 
         // Draw text on buttons
-        game.font.getData().setScale(1.8f);
+        game.font.getData().setScale(OPTION_SCALE);
         for (int i = 0; i < menuOptions.length; i++) {
             float buttonY = startY - i * buttonSpacing;
 
@@ -218,16 +244,9 @@ public class MenuScreen implements Screen {
                 game.font.setColor(0.6f, 0.6f, 0.6f, 1.0f); // Gray
             }
 
-            // Center text on button - properly calculate width and center
-            game.font.getData().setScale(1.8f); // Ensure scale is set for measurement
-            float textWidth = 0;
-            // Measure text width properly
-            com.badlogic.gdx.graphics.g2d.GlyphLayout layout = new com.badlogic.gdx.graphics.g2d.GlyphLayout();
-            layout.setText(game.font, menuOptions[i]);
-            textWidth = layout.width;
-
+            // Center text on button
             game.font.draw(game.batch, menuOptions[i],
-                    menuCenterX - textWidth / 2, buttonY + buttonHeight / 2 + 10f);
+                    menuCenterX - optionWidths[i] / 2, buttonY + buttonHeight / 2 + 10f);
         }
 
         // Info panels - Fixed positioning to avoid overlap and use menu center
@@ -240,10 +259,8 @@ public class MenuScreen implements Screen {
 
             game.batch.draw(game.assetManager.panelTexture, panelX, panelY, panelWidth, panelHeight);
 
-            game.font.getData().setScale(1.5f);
-            game.font.setColor(1.0f, 0.9f, 0.3f, 1.0f); // Gold color
-            game.font.draw(game.batch, "High Score: " + game.assetManager.getHighScore(),
-                    panelX + 50f, panelY + panelHeight / 2 + 15f);
+            highScoreText.setValue(game.assetManager.getHighScore());
+            highScoreText.draw(game.batch, game.font, panelX + 50f, panelY + panelHeight / 2 + 15f);
         }
 
         if (selectedOption == 3) {
@@ -285,15 +302,11 @@ public class MenuScreen implements Screen {
         }
 
         // Instructions at bottom - positioned below panels
-        game.font.getData().setScale(1.2f);
+        game.font.getData().setScale(INSTRUCTIONS_SCALE);
         game.font.setColor(0.7f, 0.9f, 1.0f, 1.0f); // Light blue
-        String instructions = "Use ↑↓ Arrow Keys to navigate, Enter to select";
-        com.badlogic.gdx.graphics.g2d.GlyphLayout instructionsLayout = new com.badlogic.gdx.graphics.g2d.GlyphLayout();
-        instructionsLayout.setText(game.font, instructions);
-        float textWidth = instructionsLayout.width;
         float instructionY = startY - menuOptions.length * buttonSpacing - 250f; // Well below panels
-        game.font.draw(game.batch, instructions,
-                menuCenterX - textWidth / 2, instructionY);
+        game.font.draw(game.batch, INSTRUCTIONS,
+                menuCenterX - instructionsWidth / 2, instructionY);
 
         // Reset font color and scale
         game.font.setColor(1.0f, 1.0f, 1.0f, 1.0f);
@@ -385,6 +398,7 @@ public class MenuScreen implements Screen {
     public void hide() {
         // Stop menu music when leaving menu screen
         game.assetManager.stopMusic(game.assetManager.menuMusic);
+        game.assetManager.unload(AssetGroup.MENU);
     }
 
     @Override
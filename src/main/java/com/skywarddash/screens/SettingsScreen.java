@@ -9,6 +9,7 @@ import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.skywarddash.SkywardDashGame;
+import com.skywarddash.utils.AssetGroup;
 import com.skywarddash.utils.Constants;
 
 public class SettingsScreen implements Screen {
@@ -58,6 +59,8 @@ public class SettingsScreen implements Screen {
 
     @Override
     public void show() {
+        game.assetManager.load(AssetGroup.INFO);
+        game.assetManager.finishLoading(AssetGroup.INFO);
     }
 
     @Override
@@ -288,6 +291,7 @@ public class SettingsScreen implements Screen {
     @Override
     public void hide() {
         saveSettings();
+        game.assetManager.unload(AssetGroup.INFO);
     }
 
     @Override
@@ -1,23 +1,26 @@
 package com.skywarddash.screens;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.skywarddash.SkywardDashGame;
+import com.skywarddash.utils.AssetGroup;
 import com.skywarddash.utils.Constants;
 
+// Shown while the assets load. Drives the asset manager a frame's worth at a time, shows how far
+// it got, and moves on to the menu as soon as everything is in.
 public class SplashScreen implements Screen {
-    private static final float SPLASH_DURATION = 3.0f; // Show for 3 seconds
+    private static final int LOAD_BUDGET_MILLIS = 15; // Loading time per frame, the rest is drawing
+    private static final float BAR_WIDTH = 800f;
+    private static final float BAR_HEIGHT = 24f;
+    private static final float BAR_Y = 200f;
     private SkywardDashGame game;
     private OrthographicCamera camera;
     private Viewport viewport;
-    private float timer;
     private float alpha = 0f;
-    private boolean fadingIn = true;
 
     public SplashScreen(SkywardDashGame game) {
         this.game = game;
@@ -25,38 +28,24 @@ public class SplashScreen implements Screen {
         camera.setToOrtho(false, Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT);
         viewport = new FitViewport(Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT, camera);
         camera.position.set(Constants.WORLD_WIDTH / 2, Constants.WORLD_HEIGHT / 2, 0);
-        timer = 0f;
     }
 
     @Override
     public void show() {
-        // Assets should be loading in background
+        // The menu comes next, so its assets load behind the splash too
+        game.assetManager.load(AssetGroup.SPLASH);
+        game.assetManager.load(AssetGroup.MENU);
     }
 
     @Override
     public void render(float delta) {
-        timer += delta;
-
-        // Handle fade in/out
-        if (fadingIn) {
-            alpha += delta * 2f; // Fade in over 0.5 seconds
-            if (alpha >= 1f) {
-                alpha = 1f;
-                fadingIn = false;
-            }
-        } else if (timer > SPLASH_DURATION - 0.5f) {
-            alpha -= delta * 2f; // Fade out over 0.5 seconds
-            if (alpha <= 0f) {
-                alpha = 0f;
-            }
-        }
+        // Fade the title in over 0.5 seconds
+        alpha = Math.min(alpha + delta * 2f, 1f);
 
+        boolean loaded = game.assetManager.update(LOAD_BUDGET_MILLIS);
         draw();
 
-        // Skip splash screen on any key press or after duration
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ANY_KEY) ||
-                Gdx.input.isButtonJustPressed(Input.Buttons.LEFT) ||
-                timer > SPLASH_DURATION) {
+        if (loaded) {
             game.setScreen(new MenuScreen(game));
         }
     }
@@ -99,20 +88,29 @@ public class SplashScreen implements Screen {
                 (Constants.WORLD_WIDTH - subtitleWidth) / 2,
                 Constants.WORLD_HEIGHT / 2 - 50f);
 
-        // Skip instruction
+        // Loading caption
         game.font.getData().setScale(1.5f);
         game.font.setColor(0.8f, 0.8f, 0.8f, alpha * 0.7f);
-        String skipText = "Press any key to continue...";
-        float skipWidth = game.font.getSpaceXadvance() * skipText.length() * 1.5f;
-        game.font.draw(game.batch, skipText,
-                (Constants.WORLD_WIDTH - skipWidth) / 2,
-                200f);
+        String loadingText = "Loading...";
+        float loadingWidth = game.font.getSpaceXadvance() * loadingText.length() * 1.5f;
+        game.font.draw(game.batch, loadingText,
+                (Constants.WORLD_WIDTH - loadingWidth) / 2,
+                BAR_Y + BAR_HEIGHT + 50f);
 
         game.batch.end();
 
         // Reset font scale
         game.font.getData().setScale(1.0f);
         game.font.setColor(1.0f, 1.0f, 1.0f, 1.0f);
+
+        // Progress bar: dark track, filled up to the loading progress
+        float barX = (Constants.WORLD_WIDTH - BAR_WIDTH) / 2;
+        game.shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        game.shapeRenderer.setColor(0.2f, 0.2f, 0.3f, 1.0f);
+        game.shapeRenderer.rect(barX, BAR_Y, BAR_WIDTH, BAR_HEIGHT);
+        game.shapeRenderer.setColor(0.4f, 0.8f, 1.0f, 1.0f);
+        game.shapeRenderer.rect(barX, BAR_Y, BAR_WIDTH * game.assetManager.getProgress(), BAR_HEIGHT);
+        game.shapeRenderer.end();
     }
 
     @Override
@@ -130,6 +128,9 @@ public class SplashScreen implements Screen {
 
     @Override
     public void hide() {
+        // The menu has not loaded its group yet, but unloading is deferred until it has
+        game.assetManager.unload(AssetGroup.SPLASH);
+        game.assetManager.unload(AssetGroup.MENU);
     }
 
     @Override
@@ -0,0 +1,8 @@
+package com.skywarddash.simulation;
+
+// Why a run ended
+public enum DeathCause {
+    NONE, // Still alive
+    FELL, // Dropped into the danger floor
+    CAUGHT // Danger floor rose over the player while standing or climbing
+}
@@ -0,0 +1,13 @@
+package com.skywarddash.simulation;
+
+// Where the player's controls come from - the keyboard, a replay being played back, a bot
+public interface InputSource {
+    // Called once per rendered frame, before any simulation steps run
+    void poll();
+
+    // Fills in the controls for the next simulation step
+    void readInput(PlayerInput input);
+
+    // Called when a new run starts
+    void reset();
+}
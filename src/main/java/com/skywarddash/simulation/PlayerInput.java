@@ -0,0 +1,32 @@
+package com.skywarddash.simulation;
+
+// Player controls for a single simulation step
+public class PlayerInput {
+    // Bit layout used when inputs are packed into an int (replays)
+    public static final int LEFT_BIT = 1;
+    public static final int RIGHT_BIT = 1 << 1;
+    public static final int JUMP_BIT = 1 << 2;
+    public static final int ALL_BITS = LEFT_BIT | RIGHT_BIT | JUMP_BIT;
+
+    public boolean left;
+    public boolean right;
+    public boolean jump; // Jump pressed since the previous step
+
+    public void set(boolean left, boolean right, boolean jump) {
+        this.left = left;
+        this.right = right;
+        this.jump = jump;
+    }
+
+    public int toBits() {
+        return (left ? LEFT_BIT : 0) | (right ? RIGHT_BIT : 0) | (jump ? JUMP_BIT : 0);
+    }
+
+    public void setBits(int bits) {
+        set((bits & LEFT_BIT) != 0, (bits & RIGHT_BIT) != 0, (bits & JUMP_BIT) != 0);
+    }
+
+    public void clear() {
+        set(false, false, false);
+    }
+}
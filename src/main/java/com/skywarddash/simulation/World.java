@@ -0,0 +1,229 @@
+package com.skywarddash.simulation;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.skywarddash.entities.DangerFloor;
+import com.skywarddash.entities.Platform;
+import com.skywarddash.entities.PlatformStore;
+import com.skywarddash.entities.Player;
+import com.skywarddash.systems.CollisionSystem;
+import com.skywarddash.systems.PlatformSpatialIndex;
+import com.skywarddash.systems.ScoreSystem;
+import com.skywarddash.systems.TimerWheel;
+import com.skywarddash.utils.Constants;
+import com.skywarddash.utils.PlatformGenerator;
+
+import java.util.Random;
+
+// Complete gameplay state and rules. Pure simulation - no rendering, audio or input polling,
+// so it runs without a GL context (batch simulations, benchmarks, replays).
+public class World {
+    private static final float DANGER_FLOOR_START = -100.0f; // Start well below ground level
+    private static final int EVENT_FLOOR_STARTS_RISING = 0;
+
+    private final Player player;
+    private final PlatformGenerator platformGenerator;
+    private final CollisionSystem collisionSystem;
+    private final ScoreSystem scoreSystem;
+    private DangerFloor dangerFloor;
+    // Timed events: platform breaks, falls and respawns, and the end of the floor's grace period
+    private final TimerWheel timers;
+    private final TimerWheel.Handler worldEvents = (event, target, stamp) -> {
+        if (event == EVENT_FLOOR_STARTS_RISING) {
+            dangerFloor.startRising();
+        }
+    };
+    private final WorldConfig config;
+
+    // Every random decision in the simulation comes from this generator or from the tower, which is
+    // generated from the seed alone, so a seed reproduces a run
+    private final Random random;
+    private long seed;
+
+    private WorldListener listener;
+    private boolean gameOver;
+    private DeathCause deathCause;
+    private float gameTime;
+
+    public World(long seed) {
+        this(seed, new WorldConfig());
+    }
+
+    public World(long seed, WorldConfig config) {
+        this(seed, new RandomXS128(seed), config);
+    }
+
+    // Any Random implementation can drive the world; it is expected to be seeded with the given seed
+    public World(long seed, Random random, WorldConfig config) {
+        this.seed = seed;
+        this.random = random;
+        this.config = config;
+
+        player = new Player(Constants.PLAYER_START_X, Constants.PLAYER_START_Y);
+        dangerFloor = createDangerFloor();
+        platformGenerator = new PlatformGenerator(seed, config);
+        timers = new TimerWheel(config.timeStep);
+        platformGenerator.getPlatforms().setTimers(timers);
+        scheduleFloorRise();
+        collisionSystem = new CollisionSystem(random);
+        scoreSystem = new ScoreSystem();
+
+        gameOver = false;
+        deathCause = DeathCause.NONE;
+        gameTime = 0;
+    }
+
+    private DangerFloor createDangerFloor() {
+        return new DangerFloor(DANGER_FLOOR_START, config.risingFloorSpeed, config.floorGracePeriod);
+    }
+
+    private void scheduleFloorRise() {
+        timers.schedule(dangerFloor.getGracePeriod(), worldEvents, EVENT_FLOOR_STARTS_RISING, null, 0);
+    }
+
+    public void step(PlayerInput input, float deltaTime) {
+        if (gameOver) {
+            return;
+        }
+
+        // Remember where this tick started so renderers can interpolate
+        player.storePreviousPosition();
+        platformGenerator.getPlatforms().storePreviousPositions();
+
+        applyInput(input, deltaTime);
+
+        // Update game time
+        gameTime += deltaTime;
+
+        // Update game entities
+        player.update(deltaTime);
+        platformGenerator.update(player);
+
+        // Update all platforms, fire the timed events that came due and handle removal
+        updatePlatforms(deltaTime);
+        dangerFloor.update(deltaTime, scoreSystem.getScore(), gameTime, player.getPosition().y);
+
+        // Handle collisions
+        boolean wasOnGround = player.isOnGround();
+        Platform landedOn = collisionSystem.checkPlatformCollisions(player, platformGenerator.getSpatialIndex());
+        if (landedOn != null && !wasOnGround && listener != null) {
+            listener.onPlayerLanded(landedOn);
+        }
+
+        // Check if player hit the danger floor
+        if (collisionSystem.checkDangerFloorCollision(player, dangerFloor)) {
+            gameOver = true;
+            deathCause = player.getVelocity().y < 0 ? DeathCause.FELL : DeathCause.CAUGHT;
+            if (listener != null) {
+                listener.onGameOver(scoreSystem.getScore());
+            }
+        }
+
+        // Update score
+        scoreSystem.updateScore(player);
+    }
+
+    private void applyInput(PlayerInput input, float deltaTime) {
+        if (input == null) {
+            return;
+        }
+
+        // Handle horizontal movement
+        if (input.left) {
+            player.moveLeft(deltaTime);
+        }
+
+        if (input.right) {
+            player.moveRight(deltaTime);
+        }
+
+        if (input.jump && player.jump() && listener != null) {
+            listener.onPlayerJumped();
+        }
+    }
+
+    private void updatePlatforms(float deltaTime) {
+        PlatformSpatialIndex spatialIndex = platformGenerator.getSpatialIndex();
+        PlatformStore platforms = platformGenerator.getPlatforms();
+        platforms.update(deltaTime);
+        timers.advance(deltaTime);
+
+        // Re-file the platforms that changed height in the spatial index; broken ones leave it
+        for (int i = 0; i < platforms.getActiveCount(); i++) {
+            Platform platform = platforms.getActive(i);
+            if (platform.isHidden()) {
+                spatialIndex.remove(platform);
+            } else if (platform.canMoveVertically()) {
+                spatialIndex.update(platform);
+            }
+        }
+
+        // Remove platforms that are marked for removal
+        if (platforms.isRemovalPending()) {
+            platformGenerator.removeFlaggedPlatforms();
+        }
+
+        // Retire platforms that are far below the player
+        float playerY = player.getPosition().y;
+        float removalThreshold = playerY - Constants.WORLD_HEIGHT * 2; // Keep platforms 2 screen heights below
+        platformGenerator.retirePlatformsBelow(removalThreshold);
+    }
+
+    // Starts a new run on the given seed
+    public void reset(long seed) {
+        this.seed = seed;
+        random.setSeed(seed);
+
+        player.reset(Constants.PLAYER_START_X, Constants.PLAYER_START_Y);
+
+        dangerFloor.reset(DANGER_FLOOR_START);
+        timers.clear();
+        scheduleFloorRise();
+        platformGenerator.reset(seed);
+        scoreSystem.reset();
+
+        gameOver = false;
+        deathCause = DeathCause.NONE;
+        gameTime = 0;
+    }
+
+    public void setListener(WorldListener listener) {
+        this.listener = listener;
+    }
+
+    // Getters
+    public Player getPlayer() {
+        return player;
+    }
+
+    public DangerFloor getDangerFloor() {
+        return dangerFloor;
+    }
+
+    public PlatformGenerator getPlatformGenerator() {
+        return platformGenerator;
+    }
+
+    public ScoreSystem getScoreSystem() {
+        return scoreSystem;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public DeathCause getDeathCause() {
+        return deathCause;
+    }
+
+    public WorldConfig getConfig() {
+        return config;
+    }
+
+    public float getGameTime() {
+        return gameTime;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
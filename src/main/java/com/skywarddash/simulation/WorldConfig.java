@@ -0,0 +1,44 @@
+package com.skywarddash.simulation;
+
+import com.skywarddash.utils.Constants;
+
+// Difficulty tuning for a World. Defaults match the shipped game; the batch simulator overrides
+// them to sweep difficulty without rebuilding.
+public class WorldConfig {
+    // Length of one simulation step in seconds; timed events (breaks, respawns) are scheduled on it
+    public float timeStep = 1.0f / Constants.SIMULATION_TICK_RATE;
+
+    // Rising danger floor
+    public float risingFloorSpeed = Constants.RISING_FLOOR_SPEED;
+    public float floorGracePeriod = 10.0f; // Seconds before the floor starts rising
+
+    // Vertical distance between generated platforms
+    public float minPlatformSpacingY = Constants.MIN_PLATFORM_SPACING_Y;
+    public float maxPlatformSpacingY = Constants.MAX_PLATFORM_SPACING_Y;
+
+    // Chance of a special platform up to FLOOR_EASY, FLOOR_MEDIUM, FLOOR_HARD and above
+    public float[] specialPlatformChance = {0.1f, 0.2f, 0.3f, 0.4f};
+
+    // Relative weights of the special types: bouncy, moving, breakable, icy, falling
+    public float[] specialTypeWeights = {0.25f, 0.2f, 0.2f, 0.2f, 0.15f};
+
+    public float getSpecialPlatformChance(int floor) {
+        if (floor > Constants.FLOOR_HARD) {
+            return specialPlatformChance[3];
+        }
+        if (floor > Constants.FLOOR_MEDIUM) {
+            return specialPlatformChance[2];
+        }
+        if (floor > Constants.FLOOR_EASY) {
+            return specialPlatformChance[1];
+        }
+        return specialPlatformChance[0];
+    }
+
+    public String describe() {
+        return "tickRate=" + Math.round(1.0f / timeStep) + " floorSpeed=" + risingFloorSpeed + " grace=" + floorGracePeriod
+                + " spacing=" + minPlatformSpacingY + ".." + maxPlatformSpacingY
+                + " specialChance=" + java.util.Arrays.toString(specialPlatformChance)
+                + " typeWeights=" + java.util.Arrays.toString(specialTypeWeights);
+    }
+}
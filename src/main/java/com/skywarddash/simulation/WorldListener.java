@@ -0,0 +1,15 @@
+package com.skywarddash.simulation;
+
+import com.skywarddash.entities.Platform;
+
+// Gameplay events raised by the World so presentation (sound, UI) stays out of the simulation
+public interface WorldListener {
+    default void onPlayerJumped() {
+    }
+
+    default void onPlayerLanded(Platform platform) {
+    }
+
+    default void onGameOver(int finalScore) {
+    }
+}
@@ -20,8 +20,12 @@ public class CameraController {
     }
 
     public void update(Player player, float deltaTime) {
+        update(player.getPosition().y, player.getVelocity().y, deltaTime);
+    }
+
+    public void update(float playerBottomY, float playerVelY, float deltaTime) {
         try {
-            float playerY = player.getPosition().y + Constants.PLAYER_HEIGHT / 2;
+            float playerY = playerBottomY + Constants.PLAYER_HEIGHT / 2;
 
             // Update highest player position
             if (playerY > highestPlayerY) {
@@ -40,8 +44,6 @@ public class CameraController {
 
             // Follow player downward movement more aggressively
             if (playerY < safeZoneBottom) {
-                float playerVelY = player.getVelocity().y;
-
                 // Follow downward movement much more readily
                 if (playerVelY < -50f || playerY < camera.position.y - Constants.CAMERA_SAFE_ZONE * 1.5f) {
                     float desiredCameraY = playerY + Constants.CAMERA_SAFE_ZONE;
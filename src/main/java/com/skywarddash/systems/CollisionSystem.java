@@ -4,65 +4,104 @@ import com.badlogic.gdx.utils.Array;
 import com.skywarddash.entities.DangerFloor;
 import com.skywarddash.entities.Platform;
 import com.skywarddash.entities.Player;
-import com.skywarddash.utils.AssetManager;
+
+import java.util.Random;
 
 public class CollisionSystem {
+    // Landing window around a platform top: the player's feet may be this far below / above it
+    private static final float LANDING_TOLERANCE_BELOW = 5f;
+    private static final float LANDING_TOLERANCE_ABOVE = 10f;
+
+    private final Array<Platform> nearbyPlatforms = new Array<>(false, 16);
+    private final Random random; // Landing effects with random variation (icy sliding)
 
-    public void checkPlatformCollisions(Player player, Array<Platform> platforms) {
-        checkPlatformCollisions(player, platforms, null);
+    public CollisionSystem(Random random) {
+        this.random = random;
     }
 
-    public void checkPlatformCollisions(Player player, Array<Platform> platforms, AssetManager assetManager) {
-        boolean landed = false;
-        float playerBottomY = player.getPosition().y;
-        float playerLeftX = player.getPosition().x;
-        float playerRightX = player.getPosition().x + player.getBounds().width;
-
-        for (Platform platform : platforms) {
-            float platformTopY = platform.getPosition().y + platform.getBounds().height;
-            float platformBottomY = platform.getPosition().y;
-            float platformLeftX = platform.getPosition().x;
-            float platformRightX = platform.getPosition().x + platform.getBounds().width;
-
-            // Check if player is horizontally overlapping with platform
-            boolean horizontalOverlap = playerRightX > platformLeftX && playerLeftX < platformRightX;
-
-            // Check if player is falling and actually ON TOP of platform
-            if (horizontalOverlap && player.getVelocity().y <= 0) {
-                // Player must be coming from above and land on platform surface
-                // Only trigger if player's bottom is close to platform top (landing from above)
-                if (playerBottomY >= platformTopY - 5f && playerBottomY <= platformTopY + 10f) {
-                    // Play landing sound if not already on ground
-                    boolean wasOnGround = player.isOnGround();
-
-                    // Snap player to platform top when landing from above
-                    player.setPosition(player.getPosition().x, platformTopY);
-                    player.landOnPlatform();
-                    platform.onPlayerLanded(player);
-
-                    // Play landing sound effect
-                    if (!wasOnGround && assetManager != null) {
-                        if (platform.getType() == Platform.PlatformType.BOUNCY) {
-                            assetManager.playSound(assetManager.comboSound, 0.8f);
-                        } else {
-                            assetManager.playSound(assetManager.landingSound, 0.6f);
-                        }
-                    }
-
-                    landed = true;
-                    break;
+    // Only checks the platforms whose tops the player's feet could have reached during this tick
+    public Platform checkPlatformCollisions(Player player, PlatformSpatialIndex spatialIndex) {
+        float startBottomY = player.getPreviousPosition().y;
+        float endBottomY = player.getPosition().y;
+
+        nearbyPlatforms.clear();
+        spatialIndex.query(Math.min(startBottomY, endBottomY) - LANDING_TOLERANCE_ABOVE,
+                Math.max(startBottomY, endBottomY) + LANDING_TOLERANCE_BELOW, nearbyPlatforms);
+
+        Platform landedOn = checkPlatformCollisions(player, nearbyPlatforms);
+        nearbyPlatforms.clear();
+        return landedOn;
+    }
+
+    // Sweeps the player's feet from where they were at the start of the tick to where they are now,
+    // so a fast fall (or a long tick) can't skip over a platform. Lands on the platform that was hit
+    // first and returns it, or returns null if airborne.
+    public Platform checkPlatformCollisions(Player player, Array<Platform> platforms) {
+        Platform landedOn = null;
+
+        // Only falling (or resting) players can land
+        if (player.getVelocity().y <= 0) {
+            float earliestHit = Float.MAX_VALUE;
+            for (Platform platform : platforms) {
+                float hitTime = sweepLanding(player, platform);
+                if (hitTime < earliestHit) {
+                    earliestHit = hitTime;
+                    landedOn = platform;
                 }
             }
         }
 
-        // Only set not on ground if we haven't landed on anything
-        if (!landed) {
+        if (landedOn != null) {
+            // Snap player to platform top when landing from above
+            float platformTopY = landedOn.getTopY();
+            player.setPosition(player.getPosition().x, platformTopY);
+            player.landOnPlatform();
+            landedOn.onPlayerLanded(player, random);
+        } else {
+            // Only set not on ground if we haven't landed on anything
             player.setOnGround(false);
         }
+        return landedOn;
+    }
+
+    // Returns when during the tick (0 = start, 1 = end) the player's feet reached the platform top,
+    // or Float.MAX_VALUE if they didn't land on it. Works on the gap between feet and top, so
+    // platforms that moved during the tick are handled too.
+    private float sweepLanding(Player player, Platform platform) {
+        float platformHeight = platform.getHeight();
+        float startGap = player.getPreviousPosition().y - (platform.getPreviousY() + platformHeight);
+        float endGap = player.getPosition().y - (platform.getY() + platformHeight);
+
+        // Must start no lower than the landing window and end no higher than it
+        if (startGap < -LANDING_TOLERANCE_BELOW || endGap > LANDING_TOLERANCE_ABOVE) {
+            return Float.MAX_VALUE;
+        }
+
+        float hitTime;
+        if (startGap > 0 && endGap < 0) {
+            hitTime = startGap / (startGap - endGap); // Crossed the top during the tick
+        } else if (endGap >= -LANDING_TOLERANCE_BELOW) {
+            hitTime = 1f; // Ends the tick inside the landing window
+        } else {
+            hitTime = 0f; // Was already in the window but fell through it within one tick
+        }
+
+        // Player must be horizontally overlapping with the platform at that moment
+        float playerLeftX = lerp(player.getPreviousPosition().x, player.getPosition().x, hitTime);
+        float playerRightX = playerLeftX + player.getBounds().width;
+        float platformLeftX = lerp(platform.getPreviousX(), platform.getX(), hitTime);
+        float platformRightX = platformLeftX + platform.getWidth();
+
+        boolean horizontalOverlap = playerRightX > platformLeftX && playerLeftX < platformRightX;
+        return horizontalOverlap ? hitTime : Float.MAX_VALUE;
+    }
+
+    private static float lerp(float from, float to, float t) {
+        return from + (to - from) * t;
     }
 
     public boolean checkDangerFloorCollision(Player player, DangerFloor dangerFloor) {
         // Player dies if they fall below danger floor height
         return player.getPosition().y + player.getBounds().height < dangerFloor.getHeight();
     }
-}
\ No newline at end of file
+}
@@ -2,29 +2,36 @@ package com.skywarddash.systems;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.skywarddash.entities.Player;
-import com.skywarddash.utils.AssetManager;
+import com.skywarddash.simulation.InputSource;
+import com.skywarddash.simulation.PlayerInput;
 
-public class InputHandler {
+// Keyboard controls
+public class InputHandler implements InputSource {
+    // Jump presses are edge-triggered per rendered frame but consumed per simulation tick,
+    // so they are latched here until the next tick picks them up
+    private boolean jumpRequested;
 
-    public void handleInput(Player player, float deltaTime) {
-        handleInput(player, deltaTime, null);
+    @Override
+    public void poll() {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) || Gdx.input.isKeyJustPressed(Input.Keys.UP) ||
+                Gdx.input.isKeyJustPressed(Input.Keys.W)) {
+            jumpRequested = true;
+        }
     }
 
-    public void handleInput(Player player, float deltaTime, AssetManager assetManager) {
-        // Handle horizontal movement
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.A)) {
-            player.moveLeft(deltaTime);
-        }
+    @Override
+    public void readInput(PlayerInput input) {
+        // Horizontal movement follows the keys currently held
+        input.left = Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.A);
+        input.right = Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D);
 
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D)) {
-            player.moveRight(deltaTime);
-        }
+        // Jumping (space, up arrow or W) is consumed by the tick that reads it
+        input.jump = jumpRequested;
+        jumpRequested = false;
+    }
 
-        // Handle jumping (space or up arrow)
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) || Gdx.input.isKeyJustPressed(Input.Keys.UP) ||
-                Gdx.input.isKeyJustPressed(Input.Keys.W)) {
-            player.jump(assetManager);
-        }
+    @Override
+    public void reset() {
+        jumpRequested = false;
     }
-}
\ No newline at end of file
+}
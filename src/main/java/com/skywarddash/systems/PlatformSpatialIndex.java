@@ -0,0 +1,107 @@
+package com.skywarddash.systems;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.skywarddash.entities.Platform;
+
+// Platforms bucketed by the Y of their top surface, so collision queries only look at
+// the few platforms near the player instead of scanning the whole tower
+public class PlatformSpatialIndex {
+    public static final float BUCKET_HEIGHT = 256f;
+
+    private final IntMap<Array<Platform>> buckets;
+    private final Array<Array<Platform>> freeBuckets; // Recycled bucket arrays
+    private int size;
+
+    public PlatformSpatialIndex() {
+        buckets = new IntMap<>();
+        freeBuckets = new Array<>(false, 16);
+        size = 0;
+    }
+
+    public void add(Platform platform) {
+        int bucket = bucketFor(platform);
+        getOrCreateBucket(bucket).add(platform);
+        platform.setIndexBucket(bucket);
+        size++;
+    }
+
+    public void remove(Platform platform) {
+        Array<Platform> bucket = buckets.get(platform.getIndexBucket());
+        if (bucket != null && bucket.removeValue(platform, true)) {
+            releaseIfEmpty(platform.getIndexBucket(), bucket);
+            size--;
+        }
+        platform.setIndexBucket(Platform.NOT_INDEXED);
+    }
+
+    // Call after a platform may have moved vertically (falling, respawning); also files a platform
+    // that was taken out of the index, e.g. while broken
+    public void update(Platform platform) {
+        int bucket = bucketFor(platform);
+        if (bucket != platform.getIndexBucket()) {
+            remove(platform);
+            add(platform);
+        }
+    }
+
+    // Adds every platform whose top surface lies within [minTopY, maxTopY] to the result
+    public void query(float minTopY, float maxTopY, Array<Platform> result) {
+        int firstBucket = bucketFor(minTopY);
+        int lastBucket = bucketFor(maxTopY);
+
+        for (int b = firstBucket; b <= lastBucket; b++) {
+            Array<Platform> bucket = buckets.get(b);
+            if (bucket == null) {
+                continue;
+            }
+            for (int i = 0; i < bucket.size; i++) {
+                Platform platform = bucket.get(i);
+                float topY = platform.getTopY();
+                if (topY >= minTopY && topY <= maxTopY) {
+                    result.add(platform);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        for (IntMap.Entry<Array<Platform>> entry : buckets.entries()) {
+            for (Platform platform : entry.value) {
+                platform.setIndexBucket(Platform.NOT_INDEXED);
+            }
+            entry.value.clear();
+            freeBuckets.add(entry.value);
+        }
+        buckets.clear();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private Array<Platform> getOrCreateBucket(int bucket) {
+        Array<Platform> platforms = buckets.get(bucket);
+        if (platforms == null) {
+            platforms = freeBuckets.size > 0 ? freeBuckets.pop() : new Array<>(false, 8);
+            buckets.put(bucket, platforms);
+        }
+        return platforms;
+    }
+
+    private void releaseIfEmpty(int bucket, Array<Platform> platforms) {
+        if (platforms.size == 0) {
+            buckets.remove(bucket);
+            freeBuckets.add(platforms);
+        }
+    }
+
+    private int bucketFor(Platform platform) {
+        return bucketFor(platform.getTopY());
+    }
+
+    private int bucketFor(float topY) {
+        return (int) Math.floor(topY / BUCKET_HEIGHT);
+    }
+}
@@ -0,0 +1,165 @@
+package com.skywarddash.systems;
+
+// Hierarchical timer wheel for timed game events (platform break and respawn delays, the rising
+// floor's grace period). Scheduling, and advancing past a tick with nothing due, are O(1): timers
+// wait in coarse buckets and cascade down to finer ones as their time approaches, and only fire
+// when due. Time is quantized to ticks of the given resolution; a timer fires on the first advance
+// that reaches or passes its due time.
+// Timers are never cancelled. A handler that may see stale timers (a platform that retired or
+// respawned since) passes a stamp when scheduling and ignores timers whose stamp no longer matches.
+public class TimerWheel {
+    public interface Handler {
+        void onTimer(int event, Object target, int stamp);
+    }
+
+    private static final int LEVEL_BITS = 6;
+    private static final int SLOTS = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4; // 2^24 ticks, about 39 hours at 120 ticks per second
+
+    private final double resolution; // Seconds per tick
+    private final Timer[][] wheels = new Timer[LEVELS][SLOTS]; // Each slot is a linked list of timers
+    private Timer overflow; // Timers further out than the wheels reach
+    private Timer freeTimers; // Fired timers, reused by schedule() so steady play doesn't allocate
+    private double time;
+    private long currentTick;
+    private int size;
+
+    public TimerWheel(float resolution) {
+        if (resolution <= 0) {
+            throw new IllegalArgumentException("Resolution must be positive: " + resolution);
+        }
+        this.resolution = resolution;
+    }
+
+    // Calls handler.onTimer(event, target, stamp) once delay seconds from now have passed
+    public void schedule(float delay, Handler handler, int event, Object target, int stamp) {
+        Timer timer = freeTimers;
+        if (timer != null) {
+            freeTimers = timer.next;
+        } else {
+            timer = new Timer();
+        }
+        timer.dueTick = Math.max((long) Math.ceil((time + delay) / resolution), currentTick + 1);
+        timer.handler = handler;
+        timer.event = event;
+        timer.target = target;
+        timer.stamp = stamp;
+        insert(timer);
+        size++;
+    }
+
+    // Moves time forward, firing the timers that came due in order of their due tick
+    public void advance(float deltaTime) {
+        time += deltaTime;
+        long targetTick = (long) Math.floor(time / resolution);
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            fire(wheels[0], (int) (currentTick & SLOT_MASK));
+        }
+    }
+
+    public double getTime() {
+        return time;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Drops every pending timer and restarts the clock at zero
+    public void clear() {
+        for (Timer[] wheel : wheels) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                release(wheel[slot]);
+                wheel[slot] = null;
+            }
+        }
+        release(overflow);
+        overflow = null;
+        time = 0;
+        currentTick = 0;
+        size = 0;
+    }
+
+    // On every wrap of a level, the timers in the next level's current slot move down a level
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (level * LEVEL_BITS)) - 1)) != 0) {
+                return;
+            }
+            int slot = (int) ((currentTick >>> (level * LEVEL_BITS)) & SLOT_MASK);
+            Timer timer = wheels[level][slot];
+            wheels[level][slot] = null;
+            reinsert(timer);
+        }
+        // All wheels wrapped: bring in the overflow timers that are now in range
+        Timer timer = overflow;
+        overflow = null;
+        reinsert(timer);
+    }
+
+    private void reinsert(Timer timer) {
+        while (timer != null) {
+            Timer next = timer.next;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void fire(Timer[] wheel, int slot) {
+        // Handlers may schedule new timers, even into this slot, so detach the list first
+        Timer timer = wheel[slot];
+        wheel[slot] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            Handler handler = timer.handler;
+            int event = timer.event;
+            Object target = timer.target;
+            int stamp = timer.stamp;
+            free(timer);
+            size--;
+            handler.onTimer(event, target, stamp);
+            timer = next;
+        }
+    }
+
+    private void insert(Timer timer) {
+        long delta = timer.dueTick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << ((level + 1) * LEVEL_BITS)) {
+                int slot = (int) ((timer.dueTick >>> (level * LEVEL_BITS)) & SLOT_MASK);
+                timer.next = wheels[level][slot];
+                wheels[level][slot] = timer;
+                return;
+            }
+        }
+        timer.next = overflow;
+        overflow = timer;
+    }
+
+    private void release(Timer timer) {
+        while (timer != null) {
+            Timer next = timer.next;
+            free(timer);
+            timer = next;
+        }
+    }
+
+    private void free(Timer timer) {
+        timer.handler = null;
+        timer.target = null;
+        timer.next = freeTimers;
+        freeTimers = timer;
+    }
+
+    private static final class Timer {
+        long dueTick;
+        Handler handler;
+        int event;
+        Object target;
+        int stamp;
+        Timer next;
+    }
+}
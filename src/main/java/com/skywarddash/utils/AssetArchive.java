@@ -0,0 +1,257 @@
+package com.skywarddash.utils;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+// All the game's asset files packed into one indexed file, built at package time by
+// AssetArchiveBuilder. The whole file is memory-mapped once; entries are slices of the mapping,
+// so images decode straight from it and sounds stream from it without another file open.
+//
+// Layout: magic, version, entry count, then per entry its path (modified UTF-8), offset and
+// length, then the entry data back to back.
+public class AssetArchive {
+    public static final String FILE_NAME = "assets.pak";
+    private static final int MAGIC = 0x53445041; // "SDPA"
+    private static final int VERSION = 1;
+
+    private final MappedByteBuffer data;
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+
+    private AssetArchive(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            FileChannel channel = raf.getChannel();
+            DataInputStream index = new DataInputStream(Channels.newInputStream(channel));
+            if (index.readInt() != MAGIC || index.readInt() != VERSION) {
+                throw new IOException("Not a version " + VERSION + " asset archive: " + file);
+            }
+            int count = index.readInt();
+            for (int i = 0; i < count; i++) {
+                String path = index.readUTF();
+                entries.put(path, new Entry(path, index.readLong(), index.readInt()));
+            }
+            // The mapping stays valid after the channel is closed
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        for (Entry entry : entries.values()) {
+            if (entry.offset < 0 || entry.offset + entry.length > data.capacity()) {
+                throw new IOException("Entry " + entry.path + " lies outside " + file);
+            }
+        }
+    }
+
+    // Maps the archive if one ships with the game, otherwise returns null and assets load as
+    // loose files. Looked for in the -Dskywarddash.assets path, next to the game's jar (or
+    // classes directory), then in the working directory.
+    public static AssetArchive open() {
+        for (File candidate : candidates()) {
+            if (candidate != null && candidate.isFile()) {
+                try {
+                    AssetArchive archive = open(candidate);
+                    GameLog.log("AssetArchive", "Mapped " + archive.entries.size + " assets from " + candidate);
+                    return archive;
+                } catch (IOException e) {
+                    GameLog.error("AssetArchive", "Ignoring " + candidate + ": " + e.getMessage());
+                }
+            }
+        }
+        return null;
+    }
+
+    static AssetArchive open(File file) throws IOException {
+        return new AssetArchive(file);
+    }
+
+    private static File[] candidates() {
+        String override = System.getProperty("skywarddash.assets");
+        File besideCode = null;
+        try {
+            File codeLocation = new File(AssetArchive.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            besideCode = new File(codeLocation.getParentFile(), FILE_NAME);
+        } catch (Exception e) {
+            // No usable code location (unusual class loader); the other places still apply
+        }
+        return new File[]{override != null ? new File(override) : null, besideCode, new File(FILE_NAME)};
+    }
+
+    public boolean contains(String path) {
+        return entries.containsKey(path);
+    }
+
+    // A read-only view of the entry's bytes, or null if it isn't in the archive
+    public ByteBuffer slice(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            return null;
+        }
+        ByteBuffer view = data.duplicate();
+        view.position((int) entry.offset);
+        view.limit((int) (entry.offset + entry.length));
+        return view.slice();
+    }
+
+    // A file handle for the entry, for loaders that read through FileHandle (sounds, music)
+    public FileHandle handle(String path) {
+        return contains(path) ? new ArchiveFileHandle(this, path) : null;
+    }
+
+    // Decodes an image straight from the mapped bytes when it comes from an archive
+    public static Pixmap decodePixmap(FileHandle file) {
+        if (file instanceof ArchiveFileHandle) {
+            return new Pixmap(((ArchiveFileHandle) file).buffer());
+        }
+        return new Pixmap(file);
+    }
+
+    // Packs the given files, relative to root, into an archive
+    public static void write(File root, String[] paths, File out) throws IOException {
+        byte[][] contents = new byte[paths.length][];
+        long indexSize = 12;
+        for (int i = 0; i < paths.length; i++) {
+            File file = new File(root, paths[i]);
+            if (!file.isFile()) {
+                throw new IOException("Missing asset: " + file);
+            }
+            contents[i] = java.nio.file.Files.readAllBytes(file.toPath());
+            indexSize += 2 + paths[i].getBytes("UTF-8").length + 8 + 4; // Assets paths are plain ASCII
+        }
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(out)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(paths.length);
+            long offset = indexSize;
+            for (int i = 0; i < paths.length; i++) {
+                output.writeUTF(paths[i]);
+                output.writeLong(offset);
+                output.writeInt(contents[i].length);
+                offset += contents[i].length;
+            }
+            for (byte[] content : contents) {
+                output.write(content);
+            }
+        }
+    }
+
+    private static final class Entry {
+        final String path;
+        final long offset;
+        final int length;
+
+        Entry(String path, long offset, int length) {
+            this.path = path;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    // Resolves asset paths to archive entries, or to internal files for anything not packed
+    // (or every path, when there is no archive)
+    public static class Resolver implements FileHandleResolver {
+        private final AssetArchive archive;
+
+        public Resolver(AssetArchive archive) {
+            this.archive = archive;
+        }
+
+        @Override
+        public FileHandle resolve(String fileName) {
+            FileHandle handle = archive != null ? archive.handle(fileName) : null;
+            return handle != null ? handle : Gdx.files.internal(fileName);
+        }
+    }
+
+    // Reads an archive entry as if it were an internal file
+    public static class ArchiveFileHandle extends FileHandle {
+        private final AssetArchive archive;
+
+        ArchiveFileHandle(AssetArchive archive, String path) {
+            super(path, Files.FileType.Internal);
+            this.archive = archive;
+        }
+
+        // The entry's bytes, straight from the mapping
+        public ByteBuffer buffer() {
+            return archive.slice(path());
+        }
+
+        @Override
+        public InputStream read() {
+            ByteBuffer buffer = buffer();
+            return new InputStream() {
+                @Override
+                public int read() {
+                    return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+                }
+
+                @Override
+                public int read(byte[] bytes, int offset, int length) {
+                    if (!buffer.hasRemaining()) {
+                        return -1;
+                    }
+                    int count = Math.min(length, buffer.remaining());
+                    buffer.get(bytes, offset, count);
+                    return count;
+                }
+
+                @Override
+                public int available() {
+                    return buffer.remaining();
+                }
+            };
+        }
+
+        @Override
+        public byte[] readBytes() {
+            ByteBuffer buffer = buffer();
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        @Override
+        public ByteBuffer map(FileChannel.MapMode mode) {
+            if (mode != FileChannel.MapMode.READ_ONLY) {
+                throw new GdxRuntimeException("Archive entries are read-only: " + path());
+            }
+            return buffer();
+        }
+
+        @Override
+        public long length() {
+            return archive.entries.get(path()).length;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return false;
+        }
+
+        @Override
+        public String path() {
+            return file.getPath().replace('\\', '/');
+        }
+    }
+}
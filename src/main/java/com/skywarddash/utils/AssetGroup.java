@@ -0,0 +1,11 @@
+package com.skywarddash.utils;
+
+// Assets a screen needs while it is shown. Screens load their group in show() and unload it in
+// hide(); AssetManager counts references, so assets shared between groups stay loaded as long
+// as any group holding them does.
+public enum AssetGroup {
+    SPLASH, // Splash background
+    MENU, // Menu background, buttons, panel, click sound and menu music
+    GAME, // Gameplay atlas, gameplay sounds and background music
+    INFO // Help and settings screens: click sound and menu music
+}
@@ -2,30 +2,82 @@ package com.skywarddash.utils;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetErrorListener;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.skywarddash.entities.Platform;
 
-public class AssetManager implements Disposable {
+import java.util.Arrays;
+import java.util.Locale;
 
-    // Player textures and animations
-    public Texture playerSpriteSheet;
+// Loads textures, sounds and music by screen. Each screen loads its AssetGroup when shown and
+// unloads it when hidden; groups are reference counted, and a group released by one screen is
+// only unloaded once the next screen has loaded its own, so assets they share never reload.
+// Files are decoded on libGDX's loader thread and uploaded a few per frame from update() (the
+// splash screen drives it), or all at once by finishLoading(group). In a packaged build the files
+// come from the memory-mapped asset archive rather than the jar.
+public class AssetManager implements Disposable {
+    private static final int ATLAS_PAGE_SIZE = 2048; // Fits every gameplay sprite plus the background
+    private static final int FALLBACK_TILE_SIZE = 16; // Solid color stand-ins stretch to any size
+    private static final float FINISHING_SHARE = 0.05f; // Part of the progress bar left for packing the atlas
+    private static final AssetGroup[] GROUPS = AssetGroup.values();
+
+    private static final String PLAYER_PATH = "assets/kenney_platformer-pack-redux/PNG/Players/Variable sizes/Blue/";
+    private static final String GROUND_PATH = "assets/kenney_platformer-pack-redux/PNG/Ground/";
+    private static final String BACKGROUND_PATH = "assets/kenney_platformer-pack-redux/PNG/Backgrounds/";
+    private static final String UI_PATH = "assets/kenney_ui-pack/PNG/Blue/Default/";
+    private static final String SOUND_PATH = "assets/kenney_interface-sounds/Audio/";
+    private static final String SPLASH_BACKGROUND = "assets/images/splash.png";
+    private static final String MENU_BACKGROUND = "assets/images/mainmenu.png";
+    private static final String BUTTON = UI_PATH + "button_rectangle_depth_flat.png";
+    private static final String BUTTON_SELECTED = UI_PATH + "button_rectangle_depth_gradient.png";
+    private static final String JUMP_SOUND = "assets/751699__el_boss__game-jump-sound-boing-2-of-2.wav";
+    private static final String CLICK_SOUND = SOUND_PATH + "click_001.ogg";
+    private static final String COMBO_SOUND = SOUND_PATH + "confirmation_001.ogg";
+    private static final String GAME_OVER_SOUND = SOUND_PATH + "error_001.ogg";
+    private static final String LANDING_SOUND = SOUND_PATH + "drop_001.ogg";
+    private static final String BACKGROUND_MUSIC = SOUND_PATH + "confirmation_002.ogg";
+    private static final String MENU_MUSIC = SOUND_PATH + "select_002.ogg";
+    private static final String[] BACKGROUNDS = {BACKGROUND_PATH + "blue_desert.png", BACKGROUND_PATH + "blue_grass.png"};
+    private static final String[] PLAYER_SPRITES = {"alienBlue_stand.png", "alienBlue_front.png", "alienBlue_walk1.png",
+            "alienBlue_walk2.png", "alienBlue_jump.png"};
+    private static final String[] GROUND_TILES = {"Grass/grassMid.png", "Stone/stoneMid.png", "Sand/sandMid.png",
+            "Snow/snowMid.png", "Ice/iceMid.png", "Cake/cakeMid.png"};
+
+    private final AssetArchive archive = AssetArchive.open(); // Null when running from loose files
+    private final FileHandleResolver resolver = new AssetArchive.Resolver(archive);
+    // Does the decoding and uploading; owns every asset loaded from a file
+    private final com.badlogic.gdx.assets.AssetManager loader = new com.badlogic.gdx.assets.AssetManager(resolver);
+    private final int[] groupReferences = new int[GROUPS.length];
+    private final boolean[] groupReady = new boolean[GROUPS.length]; // Loaded and set up
+    private final boolean[] releasePending = new boolean[GROUPS.length]; // Unloaded on the next load()
+    // Files each group holds a loader reference to, and textures it built itself (fallbacks, panel, atlas)
+    private final Array<String>[] groupFiles = newArrays(GROUPS.length);
+    private final Array<Disposable>[] groupOwned = newArrays(GROUPS.length);
+
+    // Gameplay atlas - player, platforms, background, clouds and a white texel packed on one page at load time
+    public TextureAtlas gameplayAtlas;
+    // Player animations
     public TextureRegion playerIdle;
     public TextureRegion playerRun1, playerRun2;
     public TextureRegion playerJump;
     public TextureRegion playerFalling;
-    // Platform textures
-    public Texture platformNormalTexture;
-    public Texture platformBouncyTexture;
-    public Texture platformBreakableTexture;
-    public Texture platformMovingTexture;
-    public Texture platformIcyTexture;
-    public Texture platformFallingTexture;
+    // Platform sprites, indexed by PlatformType ordinal
+    private final TextureRegion[] platformRegions = new TextureRegion[Platform.PlatformType.values().length];
     // Background textures
-    public Texture backgroundTexture;
-    public Texture cloudsTexture;
+    public TextureRegion backgroundRegion;
+    public TextureRegion cloudsRegion;
+    // Single white texel, tinted to draw solid shapes in the same batch as the sprites
+    public TextureRegion whiteRegion;
     public Texture menuBackgroundTexture;
     public Texture splashBackgroundTexture;
     // UI textures
@@ -42,239 +94,475 @@ public class AssetManager implements Disposable {
     public Music backgroundMusic;
     public Music menuMusic;
     private Preferences preferences;
-    // Asset loading status
-    private boolean assetsLoaded = false;
 
     public AssetManager() {
         preferences = Gdx.app.getPreferences("SkywardDash");
-        loadAssets();
+        // Images decode straight from the archive mapping; sounds and music read through the resolver
+        loader.setLoader(Pixmap.class, new MappedPixmapLoader(resolver));
+        loader.setLoader(Texture.class, new MappedTextureLoader(resolver));
+        loader.setErrorListener(new AssetErrorListener() {
+            @Override
+            @SuppressWarnings("rawtypes") // libGDX declares the listener with a raw AssetDescriptor
+            public void error(AssetDescriptor asset, Throwable throwable) {
+                // The asset stays unloaded and gets its fallback when its group is set up
+                Gdx.app.error("AssetManager", "Failed to load " + asset.fileName + ": " + throwable.getMessage());
+            }
+        });
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Array<T>[] newArrays(int count) {
+        Array<T>[] arrays = new Array[count];
+        for (int i = 0; i < count; i++) {
+            arrays[i] = new Array<>();
+        }
+        return arrays;
+    }
+
+    // Every file the game loads, for AssetArchiveBuilder to pack
+    public static String[] getReferencedFiles() {
+        Array<String> files = new Array<>(String.class);
+        files.addAll(SPLASH_BACKGROUND, MENU_BACKGROUND, BUTTON, BUTTON_SELECTED);
+        files.addAll(BACKGROUNDS);
+        for (String sprite : PLAYER_SPRITES) {
+            files.add(PLAYER_PATH + sprite);
+        }
+        for (String tile : GROUND_TILES) {
+            files.add(GROUND_PATH + tile);
+        }
+        files.addAll(JUMP_SOUND, CLICK_SOUND, COMBO_SOUND, GAME_OVER_SOUND, LANDING_SOUND, BACKGROUND_MUSIC, MENU_MUSIC);
+        return files.toArray();
+    }
+
+    // Takes a reference to the group and queues its files if it wasn't loaded. Doesn't block:
+    // call update() every frame or finishLoading() before using the assets.
+    public void load(AssetGroup group) {
+        int g = group.ordinal();
+        releasePending[g] = false;
+        if (groupReferences[g]++ == 0 && !groupReady[g] && groupFiles[g].isEmpty()) {
+            queueGroup(group);
+        }
+        // Groups released by the previous screen go now that this one holds what it shares with them
+        releasePendingGroups();
+    }
+
+    // Drops a reference to the group. Its assets stay until the next load(), so a screen switch
+    // that needs them again doesn't reload them.
+    public void unload(AssetGroup group) {
+        int g = group.ordinal();
+        if (groupReferences[g] == 0) {
+            Gdx.app.error("AssetManager", "Unloading " + group + " more often than it was loaded");
+            return;
+        }
+        if (--groupReferences[g] == 0) {
+            releasePending[g] = true;
+        }
+    }
+
+    private void queueGroup(AssetGroup group) {
+        switch (group) {
+            case SPLASH:
+                queue(group, SPLASH_BACKGROUND, Texture.class);
+                break;
+            case MENU:
+                queue(group, MENU_BACKGROUND, Texture.class);
+                queue(group, BUTTON, Texture.class);
+                queue(group, BUTTON_SELECTED, Texture.class);
+                queue(group, CLICK_SOUND, Sound.class);
+                queue(group, MENU_MUSIC, Music.class);
+                break;
+            case GAME:
+                // Gameplay atlas sources - the background first, it is the biggest decode
+                String background = BACKGROUNDS[0];
+                if (!resolver.resolve(background).exists()) {
+                    background = BACKGROUNDS[1];
+                }
+                queue(group, background, Pixmap.class);
+                for (String sprite : PLAYER_SPRITES) {
+                    queue(group, PLAYER_PATH + sprite, Pixmap.class);
+                }
+                for (String tile : GROUND_TILES) {
+                    queue(group, GROUND_PATH + tile, Pixmap.class);
+                }
+                queue(group, JUMP_SOUND, Sound.class);
+                queue(group, COMBO_SOUND, Sound.class);
+                queue(group, GAME_OVER_SOUND, Sound.class);
+                queue(group, LANDING_SOUND, Sound.class);
+                queue(group, BACKGROUND_MUSIC, Music.class);
+                break;
+            case INFO:
+                queue(group, CLICK_SOUND, Sound.class);
+                queue(group, MENU_MUSIC, Music.class);
+                break;
+        }
+    }
+
+    private void queue(AssetGroup group, String path, Class<?> type) {
+        loader.load(path, type);
+        groupFiles[group.ordinal()].add(path);
+    }
+
+    // Loads for up to the given number of milliseconds. Returns true once every group that has
+    // been loaded is ready to use.
+    public boolean update(int millis) {
+        if (!loader.update(millis)) {
+            if (splashBackgroundTexture == null && loader.isLoaded(SPLASH_BACKGROUND)) {
+                splashBackgroundTexture = loader.get(SPLASH_BACKGROUND, Texture.class); // Show it early
+            }
+            return false;
+        }
+        setUpLoadedGroups();
+        return true;
+    }
+
+    // Blocks until the group is loaded and ready to use
+    public void finishLoading(AssetGroup group) {
+        if (!groupReady[group.ordinal()]) {
+            loader.finishLoading();
+            setUpLoadedGroups();
+        }
+    }
+
+    // Loading progress from 0 to 1
+    public float getProgress() {
+        for (AssetGroup group : GROUPS) {
+            if (groupReferences[group.ordinal()] > 0 && !groupReady[group.ordinal()]) {
+                return loader.getProgress() * (1.0f - FINISHING_SHARE);
+            }
+        }
+        return 1.0f;
+    }
+
+    public boolean isLoaded(AssetGroup group) {
+        return groupReady[group.ordinal()];
+    }
+
+    // Everything queued is decoded and uploaded: set up the groups that were waiting for it
+    private void setUpLoadedGroups() {
+        for (AssetGroup group : GROUPS) {
+            int g = group.ordinal();
+            if (groupReferences[g] > 0 && !groupReady[g]) {
+                setUpGroup(group);
+                groupReady[g] = true;
+            }
+        }
+        refreshAudio();
     }
 
-    private void loadAssets() {
+    private void setUpGroup(AssetGroup group) {
         try {
-            loadTextures();
-            loadSounds();
-            loadMusic();
-            assetsLoaded = true;
-            Gdx.app.log("AssetManager", "All assets loaded successfully!");
+            switch (group) {
+                case SPLASH:
+                    // Load custom splash background
+                    splashBackgroundTexture = loadedTexture(SPLASH_BACKGROUND);
+                    if (splashBackgroundTexture != null) {
+                        Gdx.app.log("AssetManager", "Splash background texture loaded");
+                    } else {
+                        splashBackgroundTexture = own(group, createGradientBackground());
+                    }
+                    break;
+                case MENU:
+                    createBackgroundTextures();
+                    createUITextures();
+                    break;
+                case GAME:
+                    // Everything drawn in the gameplay layer shares one atlas page, so the batch never
+                    // has to switch textures (and flush) between the background, platforms and player
+                    packGameplayAtlas();
+                    own(group, gameplayAtlas);
+                    break;
+                default:
+                    break; // Sounds and music only
+            }
+            Gdx.app.log("AssetManager", group + " assets loaded");
         } catch (Exception e) {
-            Gdx.app.error("AssetManager", "Failed to load some assets: " + e.getMessage());
-            createFallbackAssets();
+            Gdx.app.error("AssetManager", "Failed to set up " + group + " assets: " + e.getMessage());
         }
     }
 
-    private void loadTextures() {
-        try {
-            // Player textures (will be created as colored rectangles for now)
-            createPlayerTextures();
+    private void releasePendingGroups() {
+        for (AssetGroup group : GROUPS) {
+            int g = group.ordinal();
+            if (releasePending[g]) {
+                releasePending[g] = false;
+                releaseGroup(group);
+            }
+        }
+        refreshAudio();
+    }
+
+    private void releaseGroup(AssetGroup group) {
+        int g = group.ordinal();
+        for (String path : groupFiles[g]) {
+            loader.unload(path); // Only goes once no other group holds the file
+        }
+        groupFiles[g].clear();
+        for (Disposable disposable : groupOwned[g]) {
+            disposable.dispose();
+        }
+        groupOwned[g].clear();
+        groupReady[g] = false;
+
+        switch (group) {
+            case SPLASH:
+                splashBackgroundTexture = null;
+                break;
+            case MENU:
+                menuBackgroundTexture = null;
+                buttonTexture = null;
+                buttonSelectedTexture = null;
+                panelTexture = null;
+                break;
+            case GAME:
+                gameplayAtlas = null;
+                playerIdle = playerRun1 = playerRun2 = playerJump = playerFalling = null;
+                Arrays.fill(platformRegions, null);
+                backgroundRegion = null;
+                cloudsRegion = null;
+                whiteRegion = null;
+                break;
+            default:
+                break;
+        }
+        Gdx.app.log("AssetManager", group + " assets unloaded");
+    }
 
-            // Platform textures
-            createPlatformTextures();
+    private Texture loadedTexture(String path) {
+        return loader.isLoaded(path) ? loader.get(path, Texture.class) : null;
+    }
 
-            // Background textures
-            createBackgroundTextures();
+    private <T extends Disposable> T own(AssetGroup group, T disposable) {
+        groupOwned[group.ordinal()].add(disposable);
+        return disposable;
+    }
 
-            // UI textures
-            createUITextures();
+    private void packGameplayAtlas() {
+        if (gameplayAtlas != null) {
+            gameplayAtlas.dispose();
+            gameplayAtlas = null;
+        }
 
-        } catch (Exception e) {
-            Gdx.app.error("AssetManager", "Texture loading failed: " + e.getMessage());
+        PixmapPacker packer = new PixmapPacker(ATLAS_PAGE_SIZE, ATLAS_PAGE_SIZE, Pixmap.Format.RGBA8888, 2, true);
+        try {
+            // Gameplay background and parallax clouds - the big images go in first so the
+            // packer can fit the small sprites around them on the same page
+            packGameplayBackground(packer);
+
+            // Player sprites
+            packPlayerSprites(packer);
+
+            // Platform sprites
+            packPlatformSprites(packer);
+
+            // White texel for solid shapes (danger floor, fallbacks)
+            packColor(packer, "white", 1, 1, 1.0f, 1.0f, 1.0f, 1.0f);
+
+            gameplayAtlas = packer.generateTextureAtlas(Texture.TextureFilter.Nearest,
+                    Texture.TextureFilter.Nearest, false);
+            Gdx.app.log("AssetManager", "Gameplay atlas packed: " + gameplayAtlas.getRegions().size
+                    + " regions on " + gameplayAtlas.getTextures().size + " page(s)");
+        } finally {
+            // Pages that became atlas textures stay alive until the atlas is disposed
+            packer.dispose();
+            // The source images aren't needed once they are on the atlas page
+            Array<String> files = groupFiles[AssetGroup.GAME.ordinal()];
+            for (int i = files.size - 1; i >= 0; i--) {
+                if (loader.isLoaded(files.get(i)) && loader.getAssetType(files.get(i)) == Pixmap.class) {
+                    loader.unload(files.removeIndex(i));
+                }
+            }
+        }
+
+        playerIdle = gameplayAtlas.findRegion("player_idle");
+        playerRun1 = gameplayAtlas.findRegion("player_walk1");
+        playerRun2 = gameplayAtlas.findRegion("player_walk2");
+        playerJump = gameplayAtlas.findRegion("player_jump");
+        playerFalling = gameplayAtlas.findRegion("player_falling");
+
+        for (Platform.PlatformType type : Platform.PlatformType.values()) {
+            platformRegions[type.ordinal()] = gameplayAtlas.findRegion(platformRegionName(type));
         }
+
+        backgroundRegion = gameplayAtlas.findRegion("background");
+        cloudsRegion = gameplayAtlas.findRegion("clouds");
+        whiteRegion = gameplayAtlas.findRegion("white");
     }
 
-    private void createPlayerTextures() {
+    private void packPlayerSprites(PixmapPacker packer) {
         try {
             // Load all player animation sprites from Kenney pack
-            String basePath = "assets/kenney_platformer-pack-redux/PNG/Players/Variable sizes/Blue/";
+            String basePath = PLAYER_PATH;
 
-            if (Gdx.files.internal(basePath + "alienBlue_stand.png").exists()) {
-                playerIdle = new TextureRegion(new Texture(Gdx.files.internal(basePath + "alienBlue_stand.png")));
+            if (packFile(packer, "player_idle", basePath + "alienBlue_stand.png")) {
                 Gdx.app.log("AssetManager", "Player idle animation loaded");
+            } else if (packFile(packer, "player_idle", basePath + "alienBlue_front.png")) {
+                // Fallback if the standing frame is missing
+                Gdx.app.log("AssetManager", "Player idle animation loaded from front sprite");
             }
 
-            if (Gdx.files.internal(basePath + "alienBlue_walk1.png").exists()) {
-                playerRun1 = new TextureRegion(new Texture(Gdx.files.internal(basePath + "alienBlue_walk1.png")));
+            if (packFile(packer, "player_walk1", basePath + "alienBlue_walk1.png")) {
                 Gdx.app.log("AssetManager", "Player walk1 animation loaded");
             }
 
-            if (Gdx.files.internal(basePath + "alienBlue_walk2.png").exists()) {
-                playerRun2 = new TextureRegion(new Texture(Gdx.files.internal(basePath + "alienBlue_walk2.png")));
+            if (packFile(packer, "player_walk2", basePath + "alienBlue_walk2.png")) {
                 Gdx.app.log("AssetManager", "Player walk2 animation loaded");
             }
 
-            if (Gdx.files.internal(basePath + "alienBlue_jump.png").exists()) {
-                playerJump = new TextureRegion(new Texture(Gdx.files.internal(basePath + "alienBlue_jump.png")));
+            if (packFile(packer, "player_jump", basePath + "alienBlue_jump.png")) {
                 Gdx.app.log("AssetManager", "Player jump animation loaded");
             }
 
-            if (Gdx.files.internal(basePath + "alienBlue_front.png").exists()) {
-                playerFalling = new TextureRegion(new Texture(Gdx.files.internal(basePath + "alienBlue_front.png")));
+            if (packFile(packer, "player_falling", basePath + "alienBlue_front.png")) {
                 Gdx.app.log("AssetManager", "Player falling animation loaded");
             }
 
-            // Fallback if any animations are missing
-            if (playerIdle == null && Gdx.files.internal(basePath + "alienBlue_front.png").exists()) {
-                playerIdle = new TextureRegion(new Texture(Gdx.files.internal(basePath + "alienBlue_front.png")));
+            if (packer.getRect("player_idle") != null) {
+                Gdx.app.log("AssetManager", "Player animations loaded from Kenney pack");
+                return;
             }
 
-            Gdx.app.log("AssetManager", "Player animations loaded from Kenney pack");
-            return;
-
         } catch (Exception e) {
             Gdx.app.error("AssetManager", "Failed to load player animations: " + e.getMessage());
         }
 
         // Fallback to colored texture - scaled for 1920x1080
-        playerIdle = createColoredTexture((int) Constants.PLAYER_WIDTH, (int) Constants.PLAYER_HEIGHT, 0.2f, 0.6f, 1.0f, 1.0f); // Blue player
+        packColor(packer, "player_idle", (int) Constants.PLAYER_WIDTH, (int) Constants.PLAYER_HEIGHT, 0.2f, 0.6f, 1.0f, 1.0f); // Blue player
         Gdx.app.log("AssetManager", "Using fallback player texture");
     }
 
-    private void createPlatformTextures() {
+    private void packPlatformSprites(PixmapPacker packer) {
         try {
-            // Load platform textures from Kenney pack
-            if (Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Ground/Grass/grassMid.png").exists()) {
-                platformNormalTexture = new Texture(Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Ground/Grass/grassMid.png"));
-                Gdx.app.log("AssetManager", "Normal platform texture loaded");
-            } else {
-                platformNormalTexture = createColoredTextureAsTexture((int) Constants.PLATFORM_WIDTH_MEDIUM, (int) Constants.PLATFORM_THICKNESS, 0.4f, 0.8f, 0.2f, 1.0f); // Green fallback
-            }
+            // Load platform textures from Kenney pack, solid colors where a tile is missing
+            packPlatformSprite(packer, Platform.PlatformType.NORMAL, "Grass/grassMid.png", 0.4f, 0.8f, 0.2f); // Green
+            packPlatformSprite(packer, Platform.PlatformType.BOUNCY, "Stone/stoneMid.png", 1.0f, 0.8f, 0.2f); // Orange
+            packPlatformSprite(packer, Platform.PlatformType.BREAKABLE, "Sand/sandMid.png", 0.8f, 0.4f, 0.2f); // Brown
+            packPlatformSprite(packer, Platform.PlatformType.MOVING, "Snow/snowMid.png", 0.9f, 0.9f, 0.9f); // White/gray
+            packPlatformSprite(packer, Platform.PlatformType.ICY, "Ice/iceMid.png", 0.7f, 0.9f, 1.0f); // Light blue
+            packPlatformSprite(packer, Platform.PlatformType.FALLING, "Cake/cakeMid.png", 1.0f, 0.3f, 0.3f); // Red
+        } catch (Exception e) {
+            Gdx.app.error("AssetManager", "Failed to load platform textures: " + e.getMessage());
+        }
+    }
 
-            if (Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Ground/Stone/stoneMid.png").exists()) {
-                platformBouncyTexture = new Texture(Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Ground/Stone/stoneMid.png"));
-                Gdx.app.log("AssetManager", "Bouncy platform texture loaded");
-            } else {
-                platformBouncyTexture = createColoredTextureAsTexture((int) Constants.PLATFORM_WIDTH_MEDIUM, (int) Constants.PLATFORM_THICKNESS, 1.0f, 0.8f, 0.2f, 1.0f); // Orange fallback
-            }
+    private void packPlatformSprite(PixmapPacker packer, Platform.PlatformType type, String groundTile,
+                                    float r, float g, float b) {
+        String name = platformRegionName(type);
+        if (packFile(packer, name, GROUND_PATH + groundTile)) {
+            Gdx.app.log("AssetManager", type + " platform texture loaded");
+        } else {
+            packColor(packer, name, FALLBACK_TILE_SIZE, FALLBACK_TILE_SIZE, r, g, b, 1.0f);
+        }
+    }
 
-            if (Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Ground/Sand/sandMid.png").exists()) {
-                platformBreakableTexture = new Texture(Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Ground/Sand/sandMid.png"));
-                Gdx.app.log("AssetManager", "Breakable platform texture loaded");
+    private void packGameplayBackground(PixmapPacker packer) {
+        try {
+            // Try to load background from Kenney pack for game
+            if (packFile(packer, "background", BACKGROUNDS[0]) || packFile(packer, "background", BACKGROUNDS[1])) {
+                Gdx.app.log("AssetManager", "Background texture loaded from Kenney pack");
             } else {
-                platformBreakableTexture = createColoredTextureAsTexture((int) Constants.PLATFORM_WIDTH_MEDIUM, (int) Constants.PLATFORM_THICKNESS, 0.8f, 0.4f, 0.2f, 1.0f); // Brown fallback
+                // Create a more detailed gradient background programmatically
+                packPixmap(packer, "background", createGradientPixmap());
+                Gdx.app.log("AssetManager", "Using custom gradient background");
             }
 
-            if (Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Ground/Snow/snowMid.png").exists()) {
-                platformMovingTexture = new Texture(Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Ground/Snow/snowMid.png"));
-                Gdx.app.log("AssetManager", "Moving platform texture loaded");
-            } else {
-                platformMovingTexture = createColoredTextureAsTexture((int) Constants.PLATFORM_WIDTH_MEDIUM, (int) Constants.PLATFORM_THICKNESS, 0.9f, 0.9f, 0.9f, 1.0f); // White/gray moving platform
-            }
+            // Create cloud texture for parallax effect
+            packPixmap(packer, "clouds", createCloudPixmap());
 
-            // ICY platform texture (light blue/cyan)
-            if (Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Ground/Ice/iceMid.png").exists()) {
-                platformIcyTexture = new Texture(Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Ground/Ice/iceMid.png"));
-                Gdx.app.log("AssetManager", "Icy platform texture loaded");
-            } else {
-                platformIcyTexture = createColoredTextureAsTexture((int) Constants.PLATFORM_WIDTH_MEDIUM, (int) Constants.PLATFORM_THICKNESS, 0.7f, 0.9f, 1.0f, 1.0f); // Light blue icy platform
-            }
+        } catch (Exception e) {
+            Gdx.app.error("AssetManager", "Failed to load background textures: " + e.getMessage());
+        }
+    }
 
-            // FALLING platform texture (red/orange danger color)
-            if (Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Ground/Cake/cakeMid.png").exists()) {
-                platformFallingTexture = new Texture(Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Ground/Cake/cakeMid.png"));
-                Gdx.app.log("AssetManager", "Falling platform texture loaded");
-            } else {
-                platformFallingTexture = createColoredTextureAsTexture((int) Constants.PLATFORM_WIDTH_MEDIUM, (int) Constants.PLATFORM_THICKNESS, 1.0f, 0.3f, 0.3f, 1.0f); // Red falling platform
-            }
+    private boolean packFile(PixmapPacker packer, String name, String path) {
+        if (packer.getRect(name) != null || !loader.isLoaded(path)) {
+            return false;
+        }
+        packer.pack(name, loader.get(path, Pixmap.class)); // Unloaded once the atlas is packed
+        return true;
+    }
 
-        } catch (Exception e) {
-            Gdx.app.error("AssetManager", "Failed to load platform textures: " + e.getMessage());
-            // Use fallback textures - scaled for 1920x1080
-            platformNormalTexture = createColoredTextureAsTexture((int) Constants.PLATFORM_WIDTH_MEDIUM, (int) Constants.PLATFORM_THICKNESS, 0.4f, 0.8f, 0.2f, 1.0f);
-            platformBouncyTexture = createColoredTextureAsTexture((int) Constants.PLATFORM_WIDTH_MEDIUM, (int) Constants.PLATFORM_THICKNESS, 1.0f, 0.8f, 0.2f, 1.0f);
-            platformBreakableTexture = createColoredTextureAsTexture((int) Constants.PLATFORM_WIDTH_MEDIUM, (int) Constants.PLATFORM_THICKNESS, 0.8f, 0.4f, 0.2f, 1.0f);
-            platformMovingTexture = createColoredTextureAsTexture((int) Constants.PLATFORM_WIDTH_MEDIUM, (int) Constants.PLATFORM_THICKNESS, 0.6f, 0.2f, 1.0f, 1.0f);
+    private void packColor(PixmapPacker packer, String name, int width, int height, float r, float g, float b, float a) {
+        if (packer.getRect(name) == null) {
+            packPixmap(packer, name, createColoredPixmap(width, height, r, g, b, a));
+        }
+    }
+
+    private void packPixmap(PixmapPacker packer, String name, Pixmap pixmap) {
+        try {
+            packer.pack(name, pixmap); // Copies the pixels into the atlas page
+        } finally {
+            pixmap.dispose();
         }
     }
 
     private void createBackgroundTextures() {
         try {
-            // Load custom menu background first
-            if (Gdx.files.internal("assets/images/mainmenu.png").exists()) {
-                menuBackgroundTexture = new Texture(Gdx.files.internal("assets/images/mainmenu.png"));
+            // Load custom menu background
+            menuBackgroundTexture = loadedTexture(MENU_BACKGROUND);
+            if (menuBackgroundTexture != null) {
                 Gdx.app.log("AssetManager", "Menu background texture loaded");
             } else {
-                menuBackgroundTexture = createGradientBackground();
-            }
-
-            // Load custom splash background
-            if (Gdx.files.internal("assets/images/splash.png").exists()) {
-                splashBackgroundTexture = new Texture(Gdx.files.internal("assets/images/splash.png"));
-                Gdx.app.log("AssetManager", "Splash background texture loaded");
-            } else {
-                splashBackgroundTexture = createGradientBackground();
-            }
-
-            // Try to load background from Kenney pack for game
-            if (Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Backgrounds/blue_desert.png").exists()) {
-                backgroundTexture = new Texture(Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Backgrounds/blue_desert.png"));
-                Gdx.app.log("AssetManager", "Background texture loaded from Kenney pack");
-            } else if (Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Backgrounds/blue_grass.png").exists()) {
-                backgroundTexture = new Texture(Gdx.files.internal("assets/kenney_platformer-pack-redux/PNG/Backgrounds/blue_grass.png"));
-                Gdx.app.log("AssetManager", "Background texture loaded from Kenney pack");
-            } else {
-                // Create a more detailed gradient background programmatically
-                backgroundTexture = createGradientBackground();
-                Gdx.app.log("AssetManager", "Using custom gradient background");
+                menuBackgroundTexture = own(AssetGroup.MENU, createGradientBackground());
             }
-
-            // Create cloud texture for parallax effect
-            cloudsTexture = createCloudTexture();
-
         } catch (Exception e) {
             Gdx.app.error("AssetManager", "Failed to load background textures: " + e.getMessage());
-            backgroundTexture = createGradientBackground();
-            cloudsTexture = createCloudTexture();
         }
     }
 
     private void createUITextures() {
+        // Textures built here belong to the menu group and go when it is unloaded
+        AssetGroup group = AssetGroup.MENU;
         try {
             // Load UI textures from Kenney pack
-            if (Gdx.files.internal("assets/kenney_ui-pack/PNG/Blue/Default/button_rectangle_depth_flat.png").exists()) {
-                buttonTexture = new Texture(Gdx.files.internal("assets/kenney_ui-pack/PNG/Blue/Default/button_rectangle_depth_flat.png"));
+            buttonTexture = loadedTexture(BUTTON);
+            if (buttonTexture != null) {
                 Gdx.app.log("AssetManager", "Button texture loaded");
             } else {
-                buttonTexture = createColoredTextureAsTexture(200, 50, 0.3f, 0.3f, 0.6f, 1.0f); // Blue button fallback
+                buttonTexture = own(group, createColoredTextureAsTexture(200, 50, 0.3f, 0.3f, 0.6f, 1.0f)); // Blue button fallback
             }
 
-            if (Gdx.files.internal("assets/kenney_ui-pack/PNG/Blue/Default/button_rectangle_depth_gradient.png").exists()) {
-                buttonSelectedTexture = new Texture(Gdx.files.internal("assets/kenney_ui-pack/PNG/Blue/Default/button_rectangle_depth_gradient.png"));
+            buttonSelectedTexture = loadedTexture(BUTTON_SELECTED);
+            if (buttonSelectedTexture != null) {
                 Gdx.app.log("AssetManager", "Selected button texture loaded");
             } else {
-                buttonSelectedTexture = createColoredTextureAsTexture(200, 50, 0.5f, 0.5f, 0.8f, 1.0f); // Brighter blue fallback
+                buttonSelectedTexture = own(group, createColoredTextureAsTexture(200, 50, 0.5f, 0.5f, 0.8f, 1.0f)); // Brighter blue fallback
             }
 
             // Panel texture (simple colored background)
-            panelTexture = createColoredTextureAsTexture(300, 200, 0.2f, 0.2f, 0.2f, 0.8f); // Dark panel
+            panelTexture = own(group, createColoredTextureAsTexture(300, 200, 0.2f, 0.2f, 0.2f, 0.8f)); // Dark panel
 
         } catch (Exception e) {
             Gdx.app.error("AssetManager", "Failed to load UI textures: " + e.getMessage());
-            // Use fallback textures
-            buttonTexture = createColoredTextureAsTexture(200, 50, 0.3f, 0.3f, 0.6f, 1.0f);
-            buttonSelectedTexture = createColoredTextureAsTexture(200, 50, 0.5f, 0.5f, 0.8f, 1.0f);
-            panelTexture = createColoredTextureAsTexture(300, 200, 0.2f, 0.2f, 0.2f, 0.8f);
         }
     }
 
-    private TextureRegion createColoredTexture(int width, int height, float r, float g, float b, float a) {
-        return new TextureRegion(createColoredTextureAsTexture(width, height, r, g, b, a));
-    }
-
     private Texture createColoredTextureAsTexture(int width, int height, float r, float g, float b, float a) {
         // Create a simple colored texture programmatically
-        com.badlogic.gdx.graphics.Pixmap pixmap = new com.badlogic.gdx.graphics.Pixmap(width, height, com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888);
+        Pixmap pixmap = createColoredPixmap(width, height, r, g, b, a);
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+        return texture;
+    }
+
+    private Pixmap createColoredPixmap(int width, int height, float r, float g, float b, float a) {
+        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
         pixmap.setColor(r, g, b, a);
         pixmap.fill();
+        return pixmap;
+    }
+
+    private Texture createGradientBackground() {
+        Pixmap pixmap = createGradientPixmap();
         Texture texture = new Texture(pixmap);
         pixmap.dispose();
         return texture;
     }
 
-    private Texture createGradientBackground() {
+    private Pixmap createGradientPixmap() {
         // Create a vertical gradient from light blue (top) to darker blue (bottom)
         int width = (int) Constants.WORLD_WIDTH;
         int height = (int) Constants.WORLD_HEIGHT;
-        com.badlogic.gdx.graphics.Pixmap pixmap = new com.badlogic.gdx.graphics.Pixmap(width, height, com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888);
+        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
 
         for (int y = 0; y < height; y++) {
             float ratio = (float) y / height;
@@ -286,16 +574,14 @@ public class AssetManager implements Disposable {
             pixmap.drawLine(0, y, width, y);
         }
 
-        Texture texture = new Texture(pixmap);
-        pixmap.dispose();
-        return texture;
+        return pixmap;
     }
 
-    private Texture createCloudTexture() {
+    private Pixmap createCloudPixmap() {
         // Create simple white cloud shapes for parallax scrolling
         int width = (int) Constants.WORLD_WIDTH;
         int height = 200; // Clouds layer height
-        com.badlogic.gdx.graphics.Pixmap pixmap = new com.badlogic.gdx.graphics.Pixmap(width, height, com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888);
+        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
 
         pixmap.setColor(0, 0, 0, 0); // Transparent background
         pixmap.fill();
@@ -325,70 +611,33 @@ public class AssetManager implements Disposable {
         pixmap.fillCircle(1460, 130, 30);
         pixmap.fillCircle(1485, 125, 25);
 
-        Texture texture = new Texture(pixmap);
-        pixmap.dispose();
-        return texture;
+        return pixmap;
     }
 
-    private void loadSounds() {
-        try {
-            // Load jump sound
-            if (Gdx.files.internal("assets/751699__el_boss__game-jump-sound-boing-2-of-2.wav").exists()) {
-                jumpSound = Gdx.audio.newSound(Gdx.files.internal("assets/751699__el_boss__game-jump-sound-boing-2-of-2.wav"));
-                Gdx.app.log("AssetManager", "Jump sound loaded successfully");
-            }
-
-            // Load UI sounds from Kenney pack
-            if (Gdx.files.internal("assets/kenney_interface-sounds/Audio/click_001.ogg").exists()) {
-                buttonClickSound = Gdx.audio.newSound(Gdx.files.internal("assets/kenney_interface-sounds/Audio/click_001.ogg"));
-                Gdx.app.log("AssetManager", "Button click sound loaded");
-            }
-
-            if (Gdx.files.internal("assets/kenney_interface-sounds/Audio/confirmation_001.ogg").exists()) {
-                comboSound = Gdx.audio.newSound(Gdx.files.internal("assets/kenney_interface-sounds/Audio/confirmation_001.ogg"));
-                Gdx.app.log("AssetManager", "Combo sound loaded");
-            }
-
-            if (Gdx.files.internal("assets/kenney_interface-sounds/Audio/error_001.ogg").exists()) {
-                gameOverSound = Gdx.audio.newSound(Gdx.files.internal("assets/kenney_interface-sounds/Audio/error_001.ogg"));
-                Gdx.app.log("AssetManager", "Game over sound loaded");
-            }
-
-            if (Gdx.files.internal("assets/kenney_interface-sounds/Audio/drop_001.ogg").exists()) {
-                landingSound = Gdx.audio.newSound(Gdx.files.internal("assets/kenney_interface-sounds/Audio/drop_001.ogg"));
-                Gdx.app.log("AssetManager", "Landing sound loaded");
-            }
-
-        } catch (Exception e) {
-            Gdx.app.error("AssetManager", "Error loading sounds: " + e.getMessage());
-        }
+    // Sounds and music can be shared between groups, so they follow whatever the loader holds
+    private void refreshAudio() {
+        jumpSound = loadedSound(JUMP_SOUND);
+        buttonClickSound = loadedSound(CLICK_SOUND);
+        comboSound = loadedSound(COMBO_SOUND);
+        gameOverSound = loadedSound(GAME_OVER_SOUND);
+        landingSound = loadedSound(LANDING_SOUND);
+
+        // Use ambient interface sounds as background music (looped)
+        backgroundMusic = loadedMusic(BACKGROUND_MUSIC);
+        menuMusic = loadedMusic(MENU_MUSIC);
     }
 
-    private void loadMusic() {
-        try {
-            // Use ambient interface sounds as background music (looped)
-            if (Gdx.files.internal("assets/kenney_interface-sounds/Audio/confirmation_002.ogg").exists()) {
-                backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("assets/kenney_interface-sounds/Audio/confirmation_002.ogg"));
-                backgroundMusic.setLooping(true);
-                Gdx.app.log("AssetManager", "Background music loaded");
-            }
-
-            if (Gdx.files.internal("assets/kenney_interface-sounds/Audio/select_002.ogg").exists()) {
-                menuMusic = Gdx.audio.newMusic(Gdx.files.internal("assets/kenney_interface-sounds/Audio/select_002.ogg"));
-                menuMusic.setLooping(true);
-                Gdx.app.log("AssetManager", "Menu music loaded");
-            }
-        } catch (Exception e) {
-            Gdx.app.log("AssetManager", "Music files not found, continuing without music");
-        }
+    private Sound loadedSound(String path) {
+        return loader.isLoaded(path) ? loader.get(path, Sound.class) : null;
     }
 
-    private void createFallbackAssets() {
-        // Create basic fallback assets if loading fails
-        createPlayerTextures();
-        createPlatformTextures();
-        createBackgroundTextures();
-        createUITextures();
+    private Music loadedMusic(String path) {
+        if (!loader.isLoaded(path)) {
+            return null;
+        }
+        Music music = loader.get(path, Music.class);
+        music.setLooping(true);
+        return music;
     }
 
     public void saveHighScore(int score) {
@@ -413,25 +662,19 @@ public class AssetManager implements Disposable {
         }
     }
 
+    // Whether the gameplay atlas is in, so renderers can draw sprites instead of shapes
     public boolean isAssetsLoaded() {
-        return assetsLoaded;
-    }
-
-    public Texture getPlatformTexture(String type) {
-        switch (type.toLowerCase()) {
-            case "bouncy":
-                return platformBouncyTexture;
-            case "breakable":
-                return platformBreakableTexture;
-            case "moving":
-                return platformMovingTexture;
-            case "icy":
-                return platformIcyTexture;
-            case "falling":
-                return platformFallingTexture;
-            default:
-                return platformNormalTexture;
-        }
+        return gameplayAtlas != null;
+    }
+
+    // Called for every platform every frame, so this is a plain array lookup
+    public TextureRegion getPlatformRegion(Platform.PlatformType type) {
+        TextureRegion region = platformRegions[type.ordinal()];
+        return region != null ? region : platformRegions[Platform.PlatformType.NORMAL.ordinal()];
+    }
+
+    private static String platformRegionName(Platform.PlatformType type) {
+        return "platform_" + type.name().toLowerCase(Locale.ROOT);
     }
 
     public void playSound(Sound sound, float volume) {
@@ -458,31 +701,21 @@ public class AssetManager implements Disposable {
 
     @Override
     public void dispose() {
-        // Dispose sounds
-        if (jumpSound != null) jumpSound.dispose();
-        if (landingSound != null) landingSound.dispose();
-        if (comboSound != null) comboSound.dispose();
-        if (gameOverSound != null) gameOverSound.dispose();
-        if (buttonClickSound != null) buttonClickSound.dispose();
-
-        // Dispose music
-        if (backgroundMusic != null) backgroundMusic.dispose();
-        if (menuMusic != null) menuMusic.dispose();
-
-        // Dispose textures
-        if (playerSpriteSheet != null) playerSpriteSheet.dispose();
-        if (platformNormalTexture != null) platformNormalTexture.dispose();
-        if (platformBouncyTexture != null) platformBouncyTexture.dispose();
-        if (platformBreakableTexture != null) platformBreakableTexture.dispose();
-        if (platformMovingTexture != null) platformMovingTexture.dispose();
-        if (platformIcyTexture != null) platformIcyTexture.dispose();
-        if (platformFallingTexture != null) platformFallingTexture.dispose();
-        if (backgroundTexture != null) backgroundTexture.dispose();
-        if (cloudsTexture != null) cloudsTexture.dispose();
-        if (menuBackgroundTexture != null) menuBackgroundTexture.dispose();
-        if (splashBackgroundTexture != null) splashBackgroundTexture.dispose();
-        if (buttonTexture != null) buttonTexture.dispose();
-        if (buttonSelectedTexture != null) buttonSelectedTexture.dispose();
-        if (panelTexture != null) panelTexture.dispose();
-    }
-}
\ No newline at end of file
+        // Every screen has unloaded its group by now (the game hides the current screen first), so
+        // whatever is still referenced at this point leaked
+        releasePendingGroups();
+        for (AssetGroup group : GROUPS) {
+            int references = groupReferences[group.ordinal()];
+            if (references > 0) {
+                Gdx.app.error("AssetManager", "Leak: " + group + " still loaded " + references + " time(s) at shutdown");
+                groupReferences[group.ordinal()] = 0;
+                releaseGroup(group);
+            }
+        }
+        for (String name : loader.getAssetNames()) {
+            Gdx.app.error("AssetManager", "Leak: " + name + " still loaded (" + loader.getReferenceCount(name)
+                    + " reference(s)) at shutdown");
+        }
+        loader.dispose();
+    }
+}
@@ -0,0 +1,303 @@
+package com.skywarddash.utils;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.skywarddash.entities.Platform;
+import com.skywarddash.simulation.WorldConfig;
+
+// Generates the tower one fixed-height chunk at a time. Chunk 0 is the ground and the starting
+// platforms; chunk k (k >= 1) continues the climb up to height k * CHUNK_HEIGHT. Every chunk draws
+// from its own random stream seeded from the tower seed and the chunk index, so the tower only
+// depends on the seed, whichever thread generates it. Chunks must be generated in order, since
+// each one continues where the previous one left off.
+public class ChunkGenerator {
+    public static final float CHUNK_HEIGHT = Constants.WORLD_HEIGHT;
+
+    private static final int MAX_PLACEMENT_ATTEMPTS = 4; // Re-rolls before an unreachable platform is moved
+    private static final float RISE_SLACK = 1f;
+
+    // Order matches WorldConfig.specialTypeWeights
+    private static final Platform.PlatformType[] SPECIAL_TYPES = {
+            Platform.PlatformType.BOUNCY, // Extra jump boost
+            Platform.PlatformType.MOVING, // Slides left/right
+            Platform.PlatformType.BREAKABLE, // Disappears after use
+            Platform.PlatformType.ICY, // Slippery surface
+            Platform.PlatformType.FALLING // Falls when stepped on
+    };
+
+    private final WorldConfig config;
+    private final JumpEnvelope envelope;
+    private final RandomXS128 random = new RandomXS128();
+    private long seed;
+    private int nextChunk;
+    private float lastPlatformY;
+    private float lastPlatformX;
+    private int currentFloor;
+    // The platform (or row of platforms) the player climbs to the next one from
+    private float fromLeft;
+    private float fromRight;
+    private float fromTopY;
+    private TowerChunk chunk; // Chunk being filled
+
+    public ChunkGenerator(WorldConfig config) {
+        this.config = config;
+        envelope = JumpEnvelope.forTimeStep(config.timeStep);
+    }
+
+    // Starts a new tower; the next chunk generated is chunk 0
+    public void reset(long seed) {
+        this.seed = seed;
+        nextChunk = 0;
+        lastPlatformY = 0;
+        lastPlatformX = Constants.WORLD_WIDTH / 2;
+        currentFloor = 0;
+    }
+
+    // Continues the given tower after a chunk generated elsewhere (by the worker), as if this
+    // generator had made it
+    public void resumeAfter(long seed, TowerChunk chunk) {
+        this.seed = seed;
+        nextChunk = chunk.index + 1;
+        lastPlatformY = chunk.topY;
+        lastPlatformX = chunk.lastX;
+        fromLeft = chunk.fromLeft;
+        fromRight = chunk.fromRight;
+        fromTopY = chunk.fromTopY;
+        currentFloor = chunk.floorAfter;
+    }
+
+    public int getNextChunk() {
+        return nextChunk;
+    }
+
+    // Fills the given chunk with the next chunk of the tower
+    public void generate(TowerChunk chunk) {
+        this.chunk = chunk;
+        chunk.clear(nextChunk);
+        random.setSeed(chunkSeed(seed, nextChunk));
+
+        if (nextChunk == 0) {
+            generateInitialPlatforms();
+        } else {
+            float top = nextChunk * CHUNK_HEIGHT;
+            while (lastPlatformY < top) {
+                // Check if we need to create a celebration/rest floor
+                if ((currentFloor + 1) % 100 == 0 && (currentFloor + 1) <= 300) {
+                    generateCelebrationFloor();
+                } else {
+                    generateNextPlatform();
+                }
+            }
+        }
+
+        chunk.topY = lastPlatformY;
+        chunk.lastX = lastPlatformX;
+        chunk.fromLeft = fromLeft;
+        chunk.fromRight = fromRight;
+        chunk.fromTopY = fromTopY;
+        chunk.floorAfter = currentFloor;
+        this.chunk = null;
+        nextChunk++;
+    }
+
+    private static long chunkSeed(long seed, int index) {
+        // Golden-ratio step so neighbouring chunks get unrelated streams (RandomXS128 hashes it further)
+        return seed ^ (index * 0x9E3779B97F4A7C15L);
+    }
+
+    private void generateInitialPlatforms() {
+        // Create multiple ground platforms to form a wide base like Icy Tower (scaled for 1920x1080)
+        float groundY = 150f; // Scaled for 1920x1080
+        float platformWidth = Constants.PLATFORM_WIDTH_LARGE; // Start with large platforms
+        int groundPlatforms = 5; // Create 5 large platforms side by side
+        float totalWidth = groundPlatforms * platformWidth;
+        float startX = (Constants.WORLD_WIDTH - totalWidth) / 2; // Center the ground
+
+        // Create the ground platforms
+        for (int i = 0; i < groundPlatforms; i++) {
+            float x = startX + (i * platformWidth);
+            addPlatform(x, groundY, Platform.PlatformType.NORMAL, platformWidth, Constants.PLATFORM_THICKNESS);
+        }
+
+        // Set initial values for platform generation
+        setClimbedFrom(startX, startX + totalWidth, groundY);
+        lastPlatformY = groundY + config.minPlatformSpacingY;
+        lastPlatformX = Constants.WORLD_WIDTH / 2;
+        currentFloor = 0; // Start from floor 0
+
+        // Generate many platforms initially to fill the screen (scaled for 1920x1080)
+        // Don't increment floor counter for initial platforms
+        for (int i = 0; i < 20; i++) {
+            generatePlatformInternal(false);
+        }
+    }
+
+    private void generateNextPlatform() {
+        // Generate platform WITH incrementing floor counter
+        generatePlatformInternal(true);
+    }
+
+    private void generatePlatformInternal(boolean incrementFloor) {
+        // Increment floor counter only if specified
+        if (incrementFloor) {
+            currentFloor++;
+        }
+
+        // Calculate platform width based on current floor (progressive difficulty)
+        float basePlatformWidth = getPlatformWidthForFloor(currentFloor);
+
+        // Add random width variation (±20% of base width)
+        float widthVariation = randomRange(-0.2f, 0.2f);
+        float platformWidth = basePlatformWidth * (1.0f + widthVariation);
+
+        // Ensure minimum width
+        platformWidth = Math.max(platformWidth, 90f); // Minimum platform width
+
+        // Calculate vertical spacing (increases with difficulty)
+        float minSpacing = config.minPlatformSpacingY;
+        float maxSpacing = config.maxPlatformSpacingY;
+
+        // Make platforms farther apart at higher levels
+        if (currentFloor > Constants.FLOOR_MEDIUM) {
+            minSpacing *= 1.2f;
+            maxSpacing *= 1.3f;
+        }
+        if (currentFloor > Constants.FLOOR_HARD) {
+            minSpacing *= 1.3f;
+            maxSpacing *= 1.4f;
+        }
+
+        // Calculate horizontal spacing (more challenging at higher levels)
+        float maxHorizontalGap = platformWidth * 2f; // Platform can be up to 2 platform widths away
+        if (currentFloor > Constants.FLOOR_MEDIUM) {
+            maxHorizontalGap *= 1.5f;
+        }
+
+        // Re-roll the spacing if the player couldn't make the jump; past a few attempts, bring the
+        // last candidate within reach instead
+        float spacingY = 0;
+        float x = 0;
+        boolean reachable = false;
+        for (int attempt = 0; attempt < MAX_PLACEMENT_ATTEMPTS && !reachable; attempt++) {
+            spacingY = randomRange(minSpacing, maxSpacing);
+            float spacingX = randomRange(-maxHorizontalGap, maxHorizontalGap);
+            x = clampToWorld(lastPlatformX + spacingX, platformWidth);
+            float topY = lastPlatformY + spacingY + Constants.PLATFORM_THICKNESS;
+            reachable = envelope.canReach(fromLeft, fromRight, fromTopY, x, x + platformWidth, topY);
+        }
+        if (!reachable) {
+            float maxSpacingY = maxSpacingY();
+            spacingY = Math.min(spacingY, maxSpacingY);
+            float rise = lastPlatformY + spacingY + Constants.PLATFORM_THICKNESS - fromTopY;
+            x = clampToWorld(envelope.pullWithinReach(fromLeft, fromRight, rise, x, platformWidth), platformWidth);
+        }
+
+        lastPlatformY += spacingY;
+        lastPlatformX = x;
+
+        // Determine platform type based on height (higher = more special platforms)
+        Platform.PlatformType type = determinePlatformType(currentFloor);
+
+        addPlatform(lastPlatformX, lastPlatformY, type, platformWidth, Constants.PLATFORM_THICKNESS);
+        setClimbedFrom(lastPlatformX, lastPlatformX + platformWidth, lastPlatformY);
+    }
+
+    // Keep platforms within screen bounds (accounting for platform width)
+    private static float clampToWorld(float x, float platformWidth) {
+        if (x < 0) {
+            return 0;
+        } else if (x > Constants.WORLD_WIDTH - platformWidth) {
+            return Constants.WORLD_WIDTH - platformWidth;
+        }
+        return x;
+    }
+
+    // Largest vertical step from the walk's current height that the player can still jump; the
+    // slack keeps float rounding far up the tower from tipping a capped jump over the limit
+    private float maxSpacingY() {
+        return fromTopY + envelope.getMaxRise() - RISE_SLACK - Constants.PLATFORM_THICKNESS - lastPlatformY;
+    }
+
+    private void setClimbedFrom(float left, float right, float y) {
+        fromLeft = left;
+        fromRight = right;
+        fromTopY = y + Constants.PLATFORM_THICKNESS;
+    }
+
+    private void generateCelebrationFloor() {
+        // Create full-width celebration platform every 100 floors (like Icy Tower)
+        currentFloor++;
+        chunk.celebrationFloor = currentFloor; // Logged when the chunk is added, not on the worker
+
+        // Extra spacing for celebration, but never more than the player can jump
+        float spacingY = config.minPlatformSpacingY * 3;
+        float maxSpacingY = maxSpacingY();
+        lastPlatformY += Math.min(spacingY, maxSpacingY);
+
+        // Create multiple large platforms side by side to cover full width - no gaps for safety
+        float platformWidth = Constants.PLATFORM_WIDTH_LARGE;
+        int platformCount = (int) Math.ceil(Constants.WORLD_WIDTH / platformWidth);
+        float startX = 0;
+
+        for (int i = 0; i < platformCount; i++) {
+            float x = startX + (i * platformWidth);
+            if (x < Constants.WORLD_WIDTH) {
+                // Make sure the last platform covers to the edge
+                float actualWidth = platformWidth;
+                if (i == platformCount - 1) {
+                    actualWidth = Constants.WORLD_WIDTH - x;
+                }
+                addPlatform(x, lastPlatformY, Platform.PlatformType.BOUNCY, actualWidth, Constants.PLATFORM_THICKNESS);
+            }
+        }
+
+        // Update last platform position to center for next generation
+        lastPlatformX = Constants.WORLD_WIDTH / 2;
+        setClimbedFrom(0, Constants.WORLD_WIDTH, lastPlatformY);
+    }
+
+    private float getPlatformWidthForFloor(int floor) {
+        if (floor <= Constants.FLOOR_EASY) {
+            return Constants.PLATFORM_WIDTH_LARGE;
+        } else if (floor <= Constants.FLOOR_MEDIUM) {
+            return Constants.PLATFORM_WIDTH_MEDIUM;
+        } else if (floor <= Constants.FLOOR_HARD) {
+            return Constants.PLATFORM_WIDTH_SMALL;
+        } else {
+            return Constants.PLATFORM_WIDTH_TINY;
+        }
+    }
+
+    private Platform.PlatformType determinePlatformType(int floor) {
+        // Higher floors have more chance of being special (10% / 20% / 30% / 40% by default)
+        float specialChance = config.getSpecialPlatformChance(floor);
+
+        if (random.nextFloat() < specialChance) {
+            // Pick a special type by weight - by default 25% bouncy, 20% moving, 20% breakable,
+            // 20% icy and 15% falling
+            float[] weights = config.specialTypeWeights;
+            float totalWeight = 0;
+            for (float weight : weights) {
+                totalWeight += weight;
+            }
+
+            float typeRoll = random.nextFloat() * totalWeight;
+            for (int i = 0; i < SPECIAL_TYPES.length - 1; i++) {
+                typeRoll -= weights[i];
+                if (typeRoll < 0) {
+                    return SPECIAL_TYPES[i];
+                }
+            }
+            return SPECIAL_TYPES[SPECIAL_TYPES.length - 1];
+        }
+
+        return Platform.PlatformType.NORMAL;
+    }
+
+    private float randomRange(float min, float max) {
+        return min + random.nextFloat() * (max - min);
+    }
+
+    private void addPlatform(float x, float y, Platform.PlatformType type, float width, float height) {
+        chunk.add(x, y, (byte) type.ordinal(), width, height);
+    }
+}
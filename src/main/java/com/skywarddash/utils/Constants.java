@@ -17,6 +17,13 @@ public class Constants {
     public static final float FRICTION = 0.90f; // Even less friction for more sliding
     public static final float AIR_CONTROL = 0.8f; // Better air control
 
+    // Simulation timing - fixed tick so physics behaves the same at any refresh rate
+    public static final boolean FIXED_TIMESTEP = true; // false = legacy variable-delta updates
+    public static final float SIMULATION_TICK_RATE = 120f; // Default simulation ticks per second
+    public static final int MAX_SIMULATION_STEPS_PER_FRAME = 8; // Catch-up cap after a slow frame
+    public static final float MAX_FRAME_DELTA = 0.25f; // Ignore longer stalls (window drag, breakpoints)
+    public static final float FRICTION_REFERENCE_RATE = 60f; // Per-frame friction factors were tuned at 60 FPS
+
     // Player constants - Scaled from original 25-30x40-45 pixels
     public static final float PLAYER_WIDTH = 90f; // 30 pixels * 3 scale
     public static final float PLAYER_HEIGHT = 135f; // 45 pixels * 3 scale
@@ -0,0 +1,36 @@
+package com.skywarddash.utils;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+
+// Logging that also works when the simulation runs headless (no Gdx.app)
+public final class GameLog {
+    private GameLog() {
+    }
+
+    public static void log(String tag, String message) {
+        if (Gdx.app != null) {
+            Gdx.app.log(tag, message);
+        }
+    }
+
+    // Per-event chatter from the game loop. Off unless the log level is raised to debug; callers that
+    // build their message by concatenation check isDebugEnabled() first so a normal frame allocates nothing.
+    public static void debug(String tag, String message) {
+        if (Gdx.app != null) {
+            Gdx.app.debug(tag, message);
+        }
+    }
+
+    public static boolean isDebugEnabled() {
+        return Gdx.app != null && Gdx.app.getLogLevel() >= Application.LOG_DEBUG;
+    }
+
+    public static void error(String tag, String message) {
+        if (Gdx.app != null) {
+            Gdx.app.error(tag, message);
+        } else {
+            System.err.println("[" + tag + "] " + message);
+        }
+    }
+}
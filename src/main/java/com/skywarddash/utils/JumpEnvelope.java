@@ -0,0 +1,118 @@
+package com.skywarddash.utils;
+
+import com.badlogic.gdx.utils.IntMap;
+import com.skywarddash.entities.Player;
+
+import java.util.Arrays;
+
+// How far the player can get in one jump, used by the generator to keep every platform reachable.
+// The envelope is measured once per simulation time step by running the real Player through a
+// plain climbing jump from a standstill: hold one direction, jump, use the air jump at the apex.
+// Any skilled player does at least that well. The result is a table of horizontal reach by height
+// gained, so checking a platform is a lookup.
+public class JumpEnvelope {
+    private static final float HEIGHT_STEP = 4f; // Table resolution
+    private static final float REACH_MARGIN = 0.85f; // Leave room for imperfect timing
+    private static final float MAX_AIR_TIME = 10f; // Seconds, guards the measurement loop
+    private static final IntMap<JumpEnvelope> BY_TIME_STEP = new IntMap<>(); // Keyed by the step's float bits
+
+    private final float[] reach; // reach[i]: horizontal distance covered landing i * HEIGHT_STEP above takeoff
+    private final float maxRise;
+
+    private JumpEnvelope(float deltaTime) {
+        Player player = new Player(0, 0);
+        player.jump();
+
+        // Record the descending half of the jump: feet height and distance covered, tick by tick
+        float[] heights = new float[64];
+        float[] distances = new float[64];
+        int samples = 0;
+        float highest = 0;
+        boolean airJumpUsed = false;
+        for (int tick = 0; tick * deltaTime < MAX_AIR_TIME; tick++) {
+            // Same order as World.step: input first, then the physics update
+            player.moveRight(deltaTime);
+            if (!airJumpUsed && player.getVelocity().y <= 0) {
+                player.jump();
+                airJumpUsed = true;
+            }
+            player.update(deltaTime);
+
+            float height = player.getPosition().y;
+            if (height < 0) {
+                break;
+            }
+            highest = Math.max(highest, height);
+            if (airJumpUsed && player.getVelocity().y <= 0) {
+                if (samples == heights.length) {
+                    heights = Arrays.copyOf(heights, samples * 2);
+                    distances = Arrays.copyOf(distances, samples * 2);
+                }
+                heights[samples] = height;
+                distances[samples] = player.getPosition().x;
+                samples++;
+            }
+        }
+
+        // The player can land at a height for as long as their feet are still above it on the way
+        // down, and the distance covered only grows, so the last such sample gives the reach
+        maxRise = highest;
+        reach = new float[(int) (highest / HEIGHT_STEP) + 1];
+        int sample = samples - 1;
+        for (int i = 0; i < reach.length; i++) {
+            float height = i * HEIGHT_STEP;
+            while (sample > 0 && heights[sample] < height) {
+                sample--;
+            }
+            reach[i] = samples > 0 && heights[sample] >= height ? distances[sample] : 0;
+        }
+    }
+
+    // Envelope for a world stepped at the given time step (WorldConfig.timeStep), measured on first
+    // use; the jump arc depends on the step, so each tick rate gets its own. Generators on the game
+    // and worker threads share the cache.
+    public static synchronized JumpEnvelope forTimeStep(float timeStep) {
+        int key = Float.floatToIntBits(timeStep);
+        JumpEnvelope envelope = BY_TIME_STEP.get(key);
+        if (envelope == null) {
+            envelope = new JumpEnvelope(timeStep);
+            BY_TIME_STEP.put(key, envelope);
+        }
+        return envelope;
+    }
+
+    // Highest the top of the next platform may be above the one the player jumps from
+    public float getMaxRise() {
+        return maxRise * REACH_MARGIN;
+    }
+
+    // Widest edge-to-edge gap the player can clear while climbing the given height
+    public float getReach(float rise) {
+        if (rise > getMaxRise()) {
+            return -1; // Out of reach at any distance
+        }
+        // Round the height up so the lookup never overstates the reach
+        int i = rise <= 0 ? 0 : (int) Math.ceil(rise / REACH_MARGIN / HEIGHT_STEP);
+        return reach[Math.min(i, reach.length - 1)] * REACH_MARGIN;
+    }
+
+    // Whether a platform spanning [left, right] with its top at topY can be reached from one
+    // spanning [fromLeft, fromRight] with its top at fromTopY
+    public boolean canReach(float fromLeft, float fromRight, float fromTopY, float left, float right, float topY) {
+        float gap = Math.max(0, Math.max(left - fromRight, fromLeft - right));
+        return gap <= getReach(topY - fromTopY);
+    }
+
+    // Moves a platform of the given width horizontally, as little as possible, so it is within reach
+    // of [fromLeft, fromRight] at the given rise (which must not exceed getMaxRise())
+    public float pullWithinReach(float fromLeft, float fromRight, float rise, float x, float width) {
+        float reachable = Math.max(getReach(rise), 0);
+        if (x > fromRight + reachable) {
+            return fromRight + reachable;
+        }
+        if (x + width < fromLeft - reachable) {
+            return fromLeft - reachable - width;
+        }
+        return x;
+    }
+}
@@ -0,0 +1,39 @@
+package com.skywarddash.utils;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.PixmapLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.Array;
+
+// Pixmap loader that decodes archive entries in place instead of copying them into a byte array
+// first, which is what libGDX's own PixmapLoader does
+public class MappedPixmapLoader extends AsynchronousAssetLoader<Pixmap, PixmapLoader.PixmapParameter> {
+    private Pixmap pixmap; // Decoded on the loader thread, handed over in loadSync
+
+    public MappedPixmapLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public void loadAsync(com.badlogic.gdx.assets.AssetManager manager, String fileName, FileHandle file,
+                          PixmapLoader.PixmapParameter parameter) {
+        pixmap = AssetArchive.decodePixmap(file);
+    }
+
+    @Override
+    public Pixmap loadSync(com.badlogic.gdx.assets.AssetManager manager, String fileName, FileHandle file,
+                           PixmapLoader.PixmapParameter parameter) {
+        Pixmap loaded = pixmap;
+        pixmap = null;
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes") // Declared with a raw AssetDescriptor by libGDX
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, PixmapLoader.PixmapParameter parameter) {
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.skywarddash.utils;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+
+// Texture loader that decodes archive entries in place on the loader thread; only the upload
+// happens on the render thread
+public class MappedTextureLoader extends AsynchronousAssetLoader<Texture, TextureLoader.TextureParameter> {
+    private Pixmap pixmap; // Decoded on the loader thread, uploaded in loadSync
+
+    public MappedTextureLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public void loadAsync(com.badlogic.gdx.assets.AssetManager manager, String fileName, FileHandle file,
+                          TextureLoader.TextureParameter parameter) {
+        pixmap = AssetArchive.decodePixmap(file);
+    }
+
+    @Override
+    public Texture loadSync(com.badlogic.gdx.assets.AssetManager manager, String fileName, FileHandle file,
+                            TextureLoader.TextureParameter parameter) {
+        try {
+            boolean mipmaps = parameter != null && parameter.genMipMaps;
+            Texture texture = new Texture(pixmap, mipmaps);
+            if (parameter != null) {
+                texture.setFilter(parameter.minFilter, parameter.magFilter);
+                texture.setWrap(parameter.wrapU, parameter.wrapV);
+            }
+            return texture;
+        } finally {
+            // The texture keeps its own copy on the GPU
+            pixmap.dispose();
+            pixmap = null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes") // Declared with a raw AssetDescriptor by libGDX
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, TextureLoader.TextureParameter parameter) {
+        return null;
+    }
+}
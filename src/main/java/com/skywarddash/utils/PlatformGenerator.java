@@ -1,255 +1,163 @@
 package com.skywarddash.utils;
 
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.utils.Array;
 import com.skywarddash.entities.Platform;
+import com.skywarddash.entities.PlatformStore;
 import com.skywarddash.entities.Player;
-
+import com.skywarddash.simulation.WorldConfig;
+import com.skywarddash.systems.PlatformSpatialIndex;
+
+// Adds the tower to the platform store chunk by chunk as the player climbs. Chunks come from a
+// ChunkGenerator, either inline on the game thread (the default, used by headless runs) or from a
+// TowerGenerationWorker that prefetches them in the background. Both produce the same tower for a
+// given seed. With the worker, the inline generator is kept at the tower's current height, so a
+// chunk the worker hasn't finished yet (e.g. right after a restart) is generated inline rather
+// than waited for.
 public class PlatformGenerator {
-    private Array<Platform> platforms;
-    private float lastPlatformY;
-    private float lastPlatformX;
+    private static final String TAG = "PlatformGenerator";
+    private static final Platform.PlatformType[] TYPES = Platform.PlatformType.values();
+    private static final float PREFETCH_SECONDS = 2.0f; // How far ahead of the ascent to generate
+    private static final int MIN_PREFETCH_CHUNKS = 2;
+
+    // The store reuses retired slots and their views for new platforms, so neither climbing nor
+    // restarting churns the heap
+    private PlatformStore platforms;
+    private PlatformSpatialIndex spatialIndex;
+    private final ChunkGenerator chunkGenerator;
+    private final TowerChunk chunk = new TowerChunk(); // Reused for inline generation
+    private TowerGenerationWorker worker;
+    private long seed;
+    private int nextChunk; // Index of the next chunk to add
+    private float highestPlatformY;
     private int currentFloor;
+    private final WorldConfig config;
 
-    public PlatformGenerator() {
-        platforms = new Array<>();
-        lastPlatformY = 0;
-        lastPlatformX = Constants.WORLD_WIDTH / 2;
-        currentFloor = 0;
-
-        // Generate initial platforms
-        generateInitialPlatforms();
+    public PlatformGenerator(long seed) {
+        this(seed, new WorldConfig());
     }
 
-    private void generateInitialPlatforms() {
-        // Create multiple ground platforms to form a wide base like Icy Tower (scaled for 1920x1080)
-        float groundY = 150f; // Scaled for 1920x1080
-        float platformWidth = Constants.PLATFORM_WIDTH_LARGE; // Start with large platforms
-        int groundPlatforms = 5; // Create 5 large platforms side by side
-        float totalWidth = groundPlatforms * platformWidth;
-        float startX = (Constants.WORLD_WIDTH - totalWidth) / 2; // Center the ground
+    public PlatformGenerator(long seed, WorldConfig config) {
+        this.config = config;
+        platforms = new PlatformStore();
+        spatialIndex = new PlatformSpatialIndex();
+        chunkGenerator = new ChunkGenerator(config);
+        reset(seed);
+    }
 
-        // Create the ground platforms
-        for (int i = 0; i < groundPlatforms; i++) {
-            float x = startX + (i * platformWidth);
-            platforms.add(new Platform(x, groundY, Platform.PlatformType.NORMAL, platformWidth, Constants.PLATFORM_THICKNESS));
+    // Moves chunk generation to a background thread. Call dispose() to stop it.
+    public void enableBackgroundGeneration() {
+        if (worker == null) {
+            worker = new TowerGenerationWorker(config, seed);
+            worker.request(seed);
+            worker.prefetch(nextChunk + MIN_PREFETCH_CHUNKS);
         }
+    }
 
-        // Set initial values for platform generation
-        lastPlatformY = groundY + Constants.MIN_PLATFORM_SPACING_Y;
-        lastPlatformX = Constants.WORLD_WIDTH / 2;
-        currentFloor = 0; // Start from floor 0
-
-        // Generate many platforms initially to fill the screen (scaled for 1920x1080)
-        // Don't increment floor counter for initial platforms
-        for (int i = 0; i < 20; i++) {
-            generateInitialPlatform();
+    public void dispose() {
+        if (worker != null) {
+            worker.dispose();
+            worker = null;
         }
     }
 
     public void update(Player player) {
         // Generate new platforms ahead of player
-        generatePlatformsAhead(player);
-
-        // Don't remove platforms here - let GameScreen handle it
-        // This prevents platforms from disappearing too early
-    }
-
-    public void removePlatforms(java.util.function.Predicate<Platform> shouldRemove) {
-        try {
-            // LibGDX Array doesn't support Predicate-based removal, so we need to iterate manually
-            for (int i = platforms.size - 1; i >= 0; i--) {
-                Platform platform = platforms.get(i);
-                if (shouldRemove.test(platform)) {
-                    platforms.removeIndex(i);
-                }
-            }
-        } catch (Exception e) {
-            com.badlogic.gdx.Gdx.app.error("PlatformGenerator", "Error removing platforms: " + e.getMessage());
-        }
-    }
-
-    private void generatePlatformsAhead(Player player) {
-        // Generate platforms ahead of the player to ensure there's always something to land on
         float playerY = player.getPosition().y;
-        float highestPlatformY = getHighestPlatformY();
-
-        // Generate platforms if player is getting close to the top
         while (highestPlatformY < playerY + Constants.WORLD_HEIGHT * 3) {
-            // Check if we need to create a celebration/rest floor
-            if ((currentFloor + 1) % 100 == 0 && (currentFloor + 1) <= 300) {
-                generateCelebrationFloor();
-            } else {
-                generateNextPlatform();
-            }
-            highestPlatformY = getHighestPlatformY();
+            addNextChunk();
         }
-    }
 
-    private float getHighestPlatformY() {
-        float highest = 0;
-        for (Platform platform : platforms) {
-            if (platform.getPosition().y > highest) {
-                highest = platform.getPosition().y;
-            }
+        if (worker != null) {
+            // Keep the worker ahead of where the player will be at the current ascent speed
+            float ascent = Math.max(player.getVelocity().y, 0) * PREFETCH_SECONDS;
+            int wanted = (int) Math.ceil((playerY + Constants.WORLD_HEIGHT * 3 + ascent) / ChunkGenerator.CHUNK_HEIGHT);
+            worker.prefetch(Math.max(wanted, nextChunk + MIN_PREFETCH_CHUNKS));
         }
-        return highest;
-    }
-
-    private void generateInitialPlatform() {
-        // Generate platform WITHOUT incrementing floor counter
-        generatePlatformInternal(false);
-    }
 
-    private void generateNextPlatform() {
-        // Generate platform WITH incrementing floor counter
-        generatePlatformInternal(true);
+        // Don't remove platforms here - let GameScreen handle it
+        // This prevents platforms from disappearing too early
     }
 
-    private void generatePlatformInternal(boolean incrementFloor) {
-        // Increment floor counter only if specified
-        if (incrementFloor) {
-            currentFloor++;
+    private void addNextChunk() {
+        TowerChunk next = worker != null ? worker.poll(nextChunk) : null;
+        if (next != null) {
+            chunkGenerator.resumeAfter(seed, next);
+        } else {
+            if (worker != null && !worker.isAlive()) {
+                GameLog.error(TAG, "Background generation stopped, generating inline");
+                worker = null;
+            }
+            chunkGenerator.generate(chunk);
+            next = chunk;
         }
 
-        // Calculate platform width based on current floor (progressive difficulty)
-        float basePlatformWidth = getPlatformWidthForFloor(currentFloor);
-
-        // Add random width variation (±20% of base width)
-        float widthVariation = MathUtils.random(-0.2f, 0.2f);
-        float platformWidth = basePlatformWidth * (1.0f + widthVariation);
-
-        // Ensure minimum width
-        platformWidth = Math.max(platformWidth, 90f); // Minimum platform width
-
-        // Calculate vertical spacing (increases with difficulty)
-        float minSpacing = Constants.MIN_PLATFORM_SPACING_Y;
-        float maxSpacing = Constants.MAX_PLATFORM_SPACING_Y;
-
-        // Make platforms farther apart at higher levels
-        if (currentFloor > Constants.FLOOR_MEDIUM) {
-            minSpacing *= 1.2f;
-            maxSpacing *= 1.3f;
+        for (int i = 0; i < next.count; i++) {
+            addPlatform(next.x.get(i), next.y.get(i), TYPES[next.type[i]], next.width.get(i), next.height.get(i));
         }
-        if (currentFloor > Constants.FLOOR_HARD) {
-            minSpacing *= 1.3f;
-            maxSpacing *= 1.4f;
+        if (next.celebrationFloor > 0) {
+            GameLog.log(TAG, "Creating celebration floor " + next.celebrationFloor + "!");
         }
+        highestPlatformY = Math.max(next.topY, 0);
+        currentFloor = next.floorAfter;
+        nextChunk++;
 
-        float spacingY = MathUtils.random(minSpacing, maxSpacing);
-
-        // Calculate horizontal spacing (more challenging at higher levels)
-        float maxHorizontalGap = platformWidth * 2f; // Platform can be up to 2 platform widths away
-        if (currentFloor > Constants.FLOOR_MEDIUM) {
-            maxHorizontalGap *= 1.5f;
+        if (next != chunk) {
+            worker.recycle(next);
         }
+    }
 
-        float spacingX = MathUtils.random(-maxHorizontalGap, maxHorizontalGap);
-
-        lastPlatformY += spacingY;
-        lastPlatformX += spacingX;
-
-        // Keep platforms within screen bounds (accounting for platform width)
-        if (lastPlatformX < 0) {
-            lastPlatformX = 0;
-        } else if (lastPlatformX > Constants.WORLD_WIDTH - platformWidth) {
-            lastPlatformX = Constants.WORLD_WIDTH - platformWidth;
+    // Retires platforms from the bottom of the tower once their spawn height drops below the threshold
+    public void retirePlatformsBelow(float threshold) {
+        while (!platforms.isEmpty() && platforms.first().getSpawnY() < threshold) {
+            spatialIndex.remove(platforms.first());
+            platforms.removeFirst();
         }
-
-        // Determine platform type based on height (higher = more special platforms)
-        Platform.PlatformType type = determinePlatformType(currentFloor);
-
-        platforms.add(new Platform(lastPlatformX, lastPlatformY, type, platformWidth, Constants.PLATFORM_THICKNESS));
     }
 
-    private void generateCelebrationFloor() {
-        // Create full-width celebration platform every 100 floors (like Icy Tower)
-        currentFloor++;
-
-        com.badlogic.gdx.Gdx.app.log("PlatformGenerator", "Creating celebration floor " + currentFloor + "!");
-
-        lastPlatformY += Constants.MIN_PLATFORM_SPACING_Y * 3; // Extra spacing for celebration
-
-        // Create multiple large platforms side by side to cover full width - no gaps for safety
-        float platformWidth = Constants.PLATFORM_WIDTH_LARGE;
-        int platformCount = (int) Math.ceil(Constants.WORLD_WIDTH / platformWidth);
-        float startX = 0;
-
-        for (int i = 0; i < platformCount; i++) {
-            float x = startX + (i * platformWidth);
-            if (x < Constants.WORLD_WIDTH) {
-                // Make sure the last platform covers to the edge
-                float actualWidth = platformWidth;
-                if (i == platformCount - 1) {
-                    actualWidth = Constants.WORLD_WIDTH - x;
+    // Removes platforms that flagged themselves for removal anywhere in the tower
+    public void removeFlaggedPlatforms() {
+        try {
+            for (int i = 0; i < platforms.size(); i++) {
+                Platform platform = platforms.get(i);
+                if (platform.shouldRemove()) {
+                    spatialIndex.remove(platform);
                 }
-                platforms.add(new Platform(x, lastPlatformY, Platform.PlatformType.BOUNCY, actualWidth, Constants.PLATFORM_THICKNESS));
             }
+            platforms.removeFlagged();
+        } catch (Exception e) {
+            GameLog.error("PlatformGenerator", "Error removing platforms: " + e.getMessage());
         }
-
-        // Update last platform position to center for next generation
-        lastPlatformX = Constants.WORLD_WIDTH / 2;
-    }
-
-    private void generateRestPlatform() {
-        // Legacy method - now use generateCelebrationFloor instead
-        generateCelebrationFloor();
     }
 
-    private float getPlatformWidthForFloor(int floor) {
-        if (floor <= Constants.FLOOR_EASY) {
-            return Constants.PLATFORM_WIDTH_LARGE;
-        } else if (floor <= Constants.FLOOR_MEDIUM) {
-            return Constants.PLATFORM_WIDTH_MEDIUM;
-        } else if (floor <= Constants.FLOOR_HARD) {
-            return Constants.PLATFORM_WIDTH_SMALL;
-        } else {
-            return Constants.PLATFORM_WIDTH_TINY;
-        }
+    private void addPlatform(float x, float y, Platform.PlatformType type, float width, float height) {
+        spatialIndex.add(platforms.add(x, y, type, width, height));
     }
 
-    private Platform.PlatformType determinePlatformType(int floor) {
-        // Higher floors have more chance of being special
-        float specialChance = 0.1f; // Base 10% chance
-
-        if (floor > Constants.FLOOR_EASY) {
-            specialChance = 0.2f; // 20% chance after floor 10
-        }
-        if (floor > Constants.FLOOR_MEDIUM) {
-            specialChance = 0.3f; // 30% chance after floor 50
-        }
-        if (floor > Constants.FLOOR_HARD) {
-            specialChance = 0.4f; // 40% chance after floor 100
-        }
-
-        if (MathUtils.random() < specialChance) {
-            float typeRoll = MathUtils.random();
-            if (typeRoll < 0.25f) {
-                return Platform.PlatformType.BOUNCY; // 25% - Extra jump boost
-            } else if (typeRoll < 0.45f) {
-                return Platform.PlatformType.MOVING; // 20% - Slides left/right
-            } else if (typeRoll < 0.65f) {
-                return Platform.PlatformType.BREAKABLE; // 20% - Disappears after use
-            } else if (typeRoll < 0.85f) {
-                return Platform.PlatformType.ICY; // 20% - Slippery surface
-            } else {
-                return Platform.PlatformType.FALLING; // 15% - Falls when stepped on
-            }
-        }
-
-        return Platform.PlatformType.NORMAL;
+    public PlatformStore getPlatforms() {
+        return platforms;
     }
 
-    public Array<Platform> getPlatforms() {
-        return platforms;
+    public PlatformSpatialIndex getSpatialIndex() {
+        return spatialIndex;
     }
 
-    public void reset() {
+    // Starts the tower for a new seed from the ground up
+    public void reset(long seed) {
+        this.seed = seed;
+        spatialIndex.clear();
         platforms.clear();
-        lastPlatformY = 150f; // Scaled ground level
-        lastPlatformX = Constants.WORLD_WIDTH / 2;
+        nextChunk = 0;
+        highestPlatformY = 0;
         currentFloor = 0;
-        generateInitialPlatforms();
+        chunkGenerator.reset(seed);
+        if (worker != null) {
+            worker.request(seed);
+        }
+        addNextChunk(); // The ground and the starting platforms
+    }
+
+    // Height the generated tower has reached; nothing is added below it any more
+    public float getHighestPlatformY() {
+        return highestPlatformY;
     }
 
     public int getCurrentFloor() {
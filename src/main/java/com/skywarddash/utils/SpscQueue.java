@@ -0,0 +1,58 @@
+package com.skywarddash.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bounded lock-free queue for exactly one producer thread and one consumer thread. Each side only
+// writes its own counter and publishes it with an ordered store, so neither offer() nor poll()
+// locks, spins or allocates.
+public class SpscQueue<T> {
+    private final Object[] buffer;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // Next slot to poll, written by the consumer
+    private final AtomicLong tail = new AtomicLong(); // Next slot to fill, written by the producer
+
+    // Capacity is rounded up to a power of two
+    public SpscQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        buffer = new Object[size];
+        mask = size - 1;
+    }
+
+    // Producer side. Returns false if the queue is full.
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot queue null");
+        }
+        long currentTail = tail.get();
+        if (currentTail - head.get() == buffer.length) {
+            return false;
+        }
+        buffer[(int) currentTail & mask] = item;
+        tail.lazySet(currentTail + 1); // Publishes the item written above
+        return true;
+    }
+
+    // Consumer side. Returns null if the queue is empty.
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long currentHead = head.get();
+        if (currentHead == tail.get()) {
+            return null;
+        }
+        int slot = (int) currentHead & mask;
+        T item = (T) buffer[slot];
+        buffer[slot] = null;
+        head.lazySet(currentHead + 1); // Hands the slot back to the producer
+        return item;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+}
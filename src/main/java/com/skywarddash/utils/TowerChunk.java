@@ -0,0 +1,55 @@
+package com.skywarddash.utils;
+
+import com.badlogic.gdx.utils.FloatArray;
+
+// One generated band of the tower, ready to be added to the platform store. Chunks are filled by a
+// ChunkGenerator (possibly on the generation worker) and recycled once their platforms are added.
+public class TowerChunk {
+    int index;
+    int epoch; // Which tower request this chunk belongs to; stale chunks are dropped on arrival
+    int count;
+    final FloatArray x = new FloatArray();
+    final FloatArray y = new FloatArray();
+    final FloatArray width = new FloatArray();
+    final FloatArray height = new FloatArray();
+    byte[] type = new byte[16]; // PlatformType ordinals
+    // Where the generation walk stands after this chunk, so a ChunkGenerator can carry on from it
+    float topY; // Height of the walk after this chunk
+    float lastX;
+    float fromLeft;
+    float fromRight;
+    float fromTopY;
+    int floorAfter; // Floor counter after this chunk
+    int celebrationFloor; // Celebration floor generated in this chunk, or 0
+
+    void clear(int index) {
+        this.index = index;
+        count = 0;
+        x.clear();
+        y.clear();
+        width.clear();
+        height.clear();
+        celebrationFloor = 0;
+    }
+
+    void add(float px, float py, byte platformType, float platformWidth, float platformHeight) {
+        if (count == type.length) {
+            byte[] grown = new byte[count * 2];
+            System.arraycopy(type, 0, grown, 0, count);
+            type = grown;
+        }
+        x.add(px);
+        y.add(py);
+        width.add(platformWidth);
+        height.add(platformHeight);
+        type[count++] = platformType;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int size() {
+        return count;
+    }
+}
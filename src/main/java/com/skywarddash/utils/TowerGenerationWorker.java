@@ -0,0 +1,123 @@
+package com.skywarddash.utils;
+
+import com.skywarddash.simulation.WorldConfig;
+
+import java.util.concurrent.locks.LockSupport;
+
+// Generates tower chunks on a background thread, ahead of where the game needs them. The game
+// thread asks for a tower (seed) and raises the prefetch target as the player climbs; finished
+// chunks come back through a single-producer/single-consumer queue, and the game thread hands
+// them back through a second one once their platforms are in the store, so chunks are reused.
+// The game thread never waits for the worker: a chunk that isn't ready yet is generated inline
+// instead (see PlatformGenerator), and the worker's copy is dropped when it arrives.
+// All methods except the worker's own loop are called from the game thread.
+public class TowerGenerationWorker implements Runnable {
+    private static final String TAG = "TowerGenerationWorker";
+    private static final int READY_CAPACITY = 8; // Chunks the worker may run ahead by
+
+    private final ChunkGenerator generator;
+    private final SpscQueue<TowerChunk> ready = new SpscQueue<>(READY_CAPACITY); // Worker -> game
+    private final SpscQueue<TowerChunk> spare = new SpscQueue<>(READY_CAPACITY * 2); // Game -> worker
+    private final Thread thread;
+
+    // Written by the game thread only. The seed is written before the epoch, so a worker that sees
+    // a new epoch also sees its seed.
+    private volatile long seed;
+    private volatile int epoch;
+    private volatile int targetChunk; // Highest chunk index wanted so far
+    private volatile boolean running = true;
+    private volatile boolean failed;
+
+    public TowerGenerationWorker(WorldConfig config, long seed) {
+        generator = new ChunkGenerator(config);
+        this.seed = seed;
+        thread = new Thread(this, "tower-generation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Starts over on a new tower; chunks of the previous one still in flight are dropped
+    public void request(long seed) {
+        this.seed = seed;
+        targetChunk = 0;
+        epoch++;
+        LockSupport.unpark(thread);
+    }
+
+    // Asks for every chunk up to the given index
+    public void prefetch(int chunkIndex) {
+        if (chunkIndex > targetChunk) {
+            targetChunk = chunkIndex;
+            LockSupport.unpark(thread);
+        }
+    }
+
+    // Returns the given chunk of the current tower if the worker has it ready, otherwise null (not
+    // generated yet, or the worker has stopped) and the caller generates the chunk itself
+    public TowerChunk poll(int chunkIndex) {
+        prefetch(chunkIndex);
+        TowerChunk chunk;
+        while ((chunk = ready.poll()) != null) {
+            if (chunk.epoch == epoch && chunk.index == chunkIndex) {
+                return chunk;
+            }
+            // Left over from an earlier tower, or a chunk the game already generated inline
+            recycle(chunk);
+        }
+        return null;
+    }
+
+    public boolean isAlive() {
+        return !failed && thread.isAlive();
+    }
+
+    // Hands a chunk back once its platforms have been added
+    public void recycle(TowerChunk chunk) {
+        spare.offer(chunk); // If the spare queue is full the chunk is simply dropped
+    }
+
+    public void dispose() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    @Override
+    public void run() {
+        int currentEpoch = -1;
+        TowerChunk pending = null; // Generated but not yet accepted by the ready queue
+        try {
+            while (running) {
+                int requestedEpoch = epoch;
+                if (requestedEpoch != currentEpoch) {
+                    // A pending chunk of the old tower is refilled below rather than handed back,
+                    // since only the game thread may put chunks on the spare queue
+                    currentEpoch = requestedEpoch;
+                    generator.reset(seed);
+                }
+
+                if (pending != null && pending.epoch == currentEpoch) {
+                    if (ready.offer(pending)) {
+                        pending = null;
+                    } else {
+                        // The game drains the ready queue without waking us, so poll for room
+                        LockSupport.parkNanos(this, 1_000_000L);
+                    }
+                } else if (generator.getNextChunk() <= targetChunk) {
+                    TowerChunk chunk = pending != null ? pending : spare.poll();
+                    if (chunk == null) {
+                        chunk = new TowerChunk();
+                    }
+                    generator.generate(chunk);
+                    chunk.epoch = currentEpoch;
+                    pending = chunk;
+                } else {
+                    // Caught up; prefetch(), request() and dispose() wake us
+                    LockSupport.park(this);
+                }
+            }
+        } catch (Exception e) {
+            failed = true;
+            GameLog.error(TAG, "Tower generation failed: " + e.getMessage());
+        }
+    }
+}
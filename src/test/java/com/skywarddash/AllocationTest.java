@@ -0,0 +1,90 @@
+package com.skywarddash;
+
+import com.skywarddash.batch.GreedyBot;
+import com.skywarddash.simulation.InputSource;
+import com.skywarddash.simulation.PlayerInput;
+import com.skywarddash.simulation.World;
+import com.skywarddash.utils.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Guards the zero-allocation game loop: plays headless games with the bot and measures the bytes
+// the simulation thread allocates per tick once warmed up. Only World.step (the update half of a
+// frame) is measured; drawing needs a GL context, so the render path isn't checked here.
+class AllocationTest {
+    private static final int WARMUP_TICKS = 100000; // Long enough for the JIT to finish compiling the loop
+    private static final int TICKS = 50000;
+    private static final long SEED = 1;
+    // Steady play allocates nothing of its own. What remains is TimerWheel growing its timer pool
+    // (40 bytes a timer) when more timers are pending than ever before, and late JIT work charged to
+    // the thread; together they measure 0 to 0.02 bytes/tick. 0.03 is 1.5 KB over the whole run.
+    private static final double MAX_BYTES_PER_TICK = 0.03;
+
+    @Test
+    void gameLoopStaysWithinAllocationBudget() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "This JVM can't report per-thread allocations");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "This JVM can't report per-thread allocations");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        World world = new World(SEED);
+        InputSource bot = new GreedyBot(world);
+        PlayerInput input = new PlayerInput();
+        float timeStep = 1.0f / Constants.SIMULATION_TICK_RATE;
+
+        // Warm up: fill pools, grow buffers and let the JIT settle
+        for (int tick = 0; tick < WARMUP_TICKS; tick++) {
+            runTick(world, bot, input, timeStep);
+        }
+
+        // Only steps are measured; restarting a finished run isn't part of the loop's budget
+        long allocated = 0;
+        long overhead = measureOverhead(threads, threadId);
+        int restarts = 0;
+        for (int tick = 0; tick < TICKS; tick++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            input.clear();
+            bot.readInput(input);
+            world.step(input, timeStep);
+            allocated += Math.max(0, threads.getThreadAllocatedBytes(threadId) - before - overhead);
+
+            if (world.isGameOver()) {
+                world.reset(world.getSeed() + 1);
+                bot.reset();
+                restarts++;
+            }
+        }
+
+        double bytesPerTick = (double) allocated / TICKS;
+        assertTrue(bytesPerTick <= MAX_BYTES_PER_TICK, String.format(
+                "Game loop allocated %d bytes over %d ticks (%d restarts): %.3f bytes/tick, budget is %.3f",
+                allocated, TICKS, restarts, bytesPerTick, MAX_BYTES_PER_TICK));
+    }
+
+    private static void runTick(World world, InputSource bot, PlayerInput input, float timeStep) {
+        input.clear();
+        bot.readInput(input);
+        world.step(input, timeStep);
+        if (world.isGameOver()) {
+            world.reset(world.getSeed() + 1);
+            bot.reset();
+        }
+    }
+
+    // What reading the counter costs by itself, subtracted from every measured tick
+    private static long measureOverhead(com.sun.management.ThreadMXBean threads, long threadId) {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 1000; i++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            overhead = Math.min(overhead, threads.getThreadAllocatedBytes(threadId) - before);
+        }
+        return overhead;
+    }
+}
@@ -0,0 +1,150 @@
+package com.skywarddash.replay;
+
+import com.skywarddash.simulation.PlayerInput;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplayTest {
+    private static final byte[] MAGIC = {'S', 'D', 'R', 'P'};
+
+    @Test
+    void roundTripsSeedsTickRateAndInputs() throws IOException {
+        long[] seeds = {0, 1, -1, 42, -123456789L, Long.MAX_VALUE, Long.MIN_VALUE};
+        Random random = new Random(5);
+        for (long seed : seeds) {
+            Replay replay = new Replay(seed, 144f);
+            int[] bits = new int[5000];
+            PlayerInput input = new PlayerInput();
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = random.nextInt(4) == 0 ? random.nextInt(PlayerInput.ALL_BITS + 1) : i > 0 ? bits[i - 1] : 0;
+                input.setBits(bits[i]);
+                replay.addTick(input);
+            }
+
+            Replay copy = roundTrip(replay);
+            assertEquals(seed, copy.getSeed());
+            assertEquals(144f, copy.getTickRate());
+            assertEquals(bits.length, copy.getTickCount());
+            for (int i = 0; i < bits.length; i++) {
+                copy.readTick(i, input);
+                assertEquals(bits[i], input.toBits(), "Input differs at tick " + i);
+            }
+        }
+    }
+
+    @Test
+    void roundTripsAnEmptyReplay() throws IOException {
+        Replay copy = roundTrip(new Replay(7, 30f));
+        assertEquals(7, copy.getSeed());
+        assertEquals(30f, copy.getTickRate());
+        assertEquals(0, copy.getTickCount());
+    }
+
+    @Test
+    void collapsesLongRunsOfTheSameInput() throws IOException {
+        Replay replay = new Replay(3, 60f);
+        PlayerInput input = new PlayerInput();
+        input.set(false, true, false);
+        for (int i = 0; i < 1_000_000; i++) {
+            replay.addTick(input);
+        }
+        input.set(true, false, true);
+        replay.addTick(input);
+
+        byte[] bytes = write(replay);
+        assertTrue(bytes.length < 32, "A million ticks of one input took " + bytes.length + " bytes");
+        Replay copy = read(bytes);
+        assertEquals(1_000_001, copy.getTickCount());
+        copy.readTick(999_999, input);
+        assertEquals(PlayerInput.RIGHT_BIT, input.toBits());
+        copy.readTick(1_000_000, input);
+        assertEquals(PlayerInput.LEFT_BIT | PlayerInput.JUMP_BIT, input.toBits());
+    }
+
+    @Test
+    void rejectsBadMagic() throws IOException {
+        byte[] bytes = write(new Replay(1, 60f));
+        bytes[0] = 'X';
+        assertThrows(IOException.class, () -> read(bytes));
+    }
+
+    @Test
+    void rejectsUnknownVersion() throws IOException {
+        byte[] bytes = write(new Replay(1, 60f));
+        bytes[MAGIC.length] = (byte) (Replay.VERSION + 1); // The version varint is a single byte
+        assertThrows(IOException.class, () -> read(bytes));
+    }
+
+    @Test
+    void rejectsTruncatedStreams() throws IOException {
+        Replay replay = new Replay(-9, 60f);
+        PlayerInput input = new PlayerInput();
+        for (int i = 0; i < 100; i++) {
+            input.setBits(i % 3);
+            replay.addTick(input);
+        }
+        byte[] bytes = write(replay);
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThrows(IOException.class, () -> read(truncated), "Read " + length + " of " + bytes.length + " bytes");
+        }
+    }
+
+    @Test
+    void rejectsAHugeTickCountWithoutAllocatingIt() {
+        // Claims 2^31 - 1 ticks but holds a single one
+        byte[] bytes = header(Integer.MAX_VALUE, 1L << 3);
+        assertThrows(IOException.class, () -> read(bytes));
+    }
+
+    @Test
+    void rejectsZeroLengthRuns() {
+        byte[] bytes = header(5, PlayerInput.JUMP_BIT); // Run length 0
+        assertThrows(IOException.class, () -> read(bytes));
+    }
+
+    private static Replay roundTrip(Replay replay) throws IOException {
+        return read(write(replay));
+    }
+
+    private static byte[] write(Replay replay) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        return out.toByteArray();
+    }
+
+    private static Replay read(byte[] bytes) throws IOException {
+        return Replay.read(new ByteArrayInputStream(bytes));
+    }
+
+    // A version 1 header with seed 0 at 60 ticks per second, followed by the given runs
+    private static byte[] header(long tickCount, long... runs) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(MAGIC);
+        varint(out, Replay.VERSION);
+        varint(out, 0);
+        varint(out, Float.floatToIntBits(60f) & 0xFFFFFFFFL);
+        varint(out, tickCount);
+        for (long run : runs) {
+            varint(out, run);
+        }
+        return out.toByteArray();
+    }
+
+    private static void varint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
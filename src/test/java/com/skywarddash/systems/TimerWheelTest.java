@@ -0,0 +1,181 @@
+package com.skywarddash.systems;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Checks TimerWheel against a brute-force model: with a one-second resolution and whole-second
+// delays, a timer scheduled at tick t with delay d is due at t + max(d, 1), and advancing one tick
+// at a time must fire it exactly then, once.
+class TimerWheelTest {
+    private static final int LEVEL_TICKS = 64; // Ticks covered by one slot of the second level
+    private static final int OVERFLOW_TICKS = 1 << 24; // Beyond the last level
+
+    // Records the tick each event fired on
+    private static final class Recorder implements TimerWheel.Handler {
+        final List<long[]> fired = new ArrayList<>(); // {event, tick}
+        long tick;
+
+        @Override
+        public void onTimer(int event, Object target, int stamp) {
+            fired.add(new long[]{event, tick});
+        }
+    }
+
+    private static void advanceTo(TimerWheel wheel, Recorder recorder, long tick) {
+        while (recorder.tick < tick) {
+            recorder.tick++;
+            wheel.advance(1f);
+        }
+    }
+
+    // Schedules every delay at every start tick, runs the wheel past them all and compares each
+    // event's firing tick with the model
+    private static void assertFiresOnTime(long[] startTicks, float[] delays) {
+        TimerWheel wheel = new TimerWheel(1f);
+        Recorder recorder = new Recorder();
+        long[] due = new long[startTicks.length * delays.length];
+        long last = 0;
+        int event = 0;
+        for (long start : startTicks) {
+            advanceTo(wheel, recorder, start);
+            for (float delay : delays) {
+                wheel.schedule(delay, recorder, event, null, 0);
+                due[event] = start + Math.max((long) delay, 1);
+                last = Math.max(last, due[event]);
+                event++;
+            }
+        }
+        advanceTo(wheel, recorder, last);
+
+        assertEquals(due.length, recorder.fired.size(), "Every timer fires exactly once");
+        boolean[] seen = new boolean[due.length];
+        for (long[] fired : recorder.fired) {
+            int id = (int) fired[0];
+            assertTrue(!seen[id], "Timer " + id + " fired twice");
+            seen[id] = true;
+            assertEquals(due[id], fired[1], "Timer " + id + " fired on the wrong tick");
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void firesOnTimeAtLevelBoundaries() {
+        float[] delays = {0, 1, 2, 63, 64, 65, 127, 128, 4095, 4096, 4097, 262143, 262144, 262145};
+        // Start on, just before and just after wheel wraps, so timers cascade from every offset
+        long[] starts = {0, 1, 62, 63, 64, 65, 4095, 4096, 4100, 262143, 262144, 300001};
+        assertFiresOnTime(starts, delays);
+    }
+
+    @Test
+    void firesOverflowTimersOnTime() {
+        // Whole-second delays past 2^24 ticks, representable exactly as floats
+        float[] delays = {OVERFLOW_TICKS - 4, OVERFLOW_TICKS, OVERFLOW_TICKS + 4, OVERFLOW_TICKS + 4096,
+                2f * OVERFLOW_TICKS, 3f * OVERFLOW_TICKS};
+        long[] starts = {0, 5, LEVEL_TICKS * 3 + 7};
+        assertFiresOnTime(starts, delays);
+    }
+
+    @Test
+    void firesRandomTimersOnTime() {
+        Random random = new Random(7);
+        long[] starts = new long[200];
+        for (int i = 1; i < starts.length; i++) {
+            starts[i] = starts[i - 1] + random.nextInt(3000);
+        }
+        float[] delays = new float[20];
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = random.nextInt(1 << (2 + random.nextInt(20)));
+        }
+        assertFiresOnTime(starts, delays);
+    }
+
+    @Test
+    void firesInDueOrderWithinOneAdvance() {
+        TimerWheel wheel = new TimerWheel(1f);
+        List<Integer> order = new ArrayList<>();
+        TimerWheel.Handler handler = (event, target, stamp) -> order.add(event);
+        wheel.schedule(5000, handler, 5000, null, 0);
+        wheel.schedule(70, handler, 70, null, 0);
+        wheel.schedule(3, handler, 3, null, 0);
+        wheel.advance(10000f);
+        assertEquals(List.of(3, 70, 5000), order);
+    }
+
+    @Test
+    void handlerCanScheduleIntoTheFiringSlot() {
+        TimerWheel wheel = new TimerWheel(1f);
+        Recorder recorder = new Recorder();
+        // The first timer reschedules two more: one a whole wheel turn later, which lands in the
+        // slot being fired, and one with no delay, which is due on the next tick
+        TimerWheel.Handler handler = new TimerWheel.Handler() {
+            @Override
+            public void onTimer(int event, Object target, int stamp) {
+                recorder.onTimer(event, target, stamp);
+                if (event == 0) {
+                    wheel.schedule(LEVEL_TICKS, this, 1, null, 0);
+                    wheel.schedule(0, this, 2, null, 0);
+                }
+            }
+        };
+        wheel.schedule(10, handler, 0, null, 0);
+        advanceTo(wheel, recorder, 10 + LEVEL_TICKS);
+
+        assertEquals(3, recorder.fired.size());
+        assertEquals(10, recorder.fired.get(0)[1]);
+        assertEquals(2, recorder.fired.get(1)[0]);
+        assertEquals(11, recorder.fired.get(1)[1]);
+        assertEquals(1, recorder.fired.get(2)[0]);
+        assertEquals(10 + LEVEL_TICKS, recorder.fired.get(2)[1]);
+    }
+
+    @Test
+    void clearDropsTimersAndRestartsTheClock() {
+        TimerWheel wheel = new TimerWheel(1f);
+        Recorder recorder = new Recorder();
+        advanceTo(wheel, recorder, 1000);
+        wheel.schedule(5, recorder, 0, null, 0);
+        wheel.schedule(5000, recorder, 1, null, 0);
+        wheel.schedule(OVERFLOW_TICKS + 4, recorder, 2, null, 0);
+        wheel.clear();
+        assertEquals(0, wheel.size());
+        assertEquals(0, wheel.getTime());
+
+        // The pooled timers are reused, from a clock back at zero
+        recorder.tick = 0;
+        wheel.schedule(100, recorder, 3, null, 0);
+        advanceTo(wheel, recorder, 200000);
+        assertEquals(1, recorder.fired.size());
+        assertEquals(3, recorder.fired.get(0)[0]);
+        assertEquals(100, recorder.fired.get(0)[1]);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void staleStampsAreIgnored() {
+        // The handler pattern the world uses: a target's stamp moves on when it changes, and timers
+        // scheduled before that are ignored when they fire
+        int[] currentStamp = {1};
+        List<Integer> delivered = new ArrayList<>();
+        List<Integer> acted = new ArrayList<>();
+        TimerWheel.Handler handler = (event, target, stamp) -> {
+            delivered.add(stamp);
+            if (stamp == currentStamp[0]) {
+                acted.add(event);
+            }
+        };
+        TimerWheel wheel = new TimerWheel(1f);
+        wheel.schedule(10, handler, 0, null, 1);
+        currentStamp[0] = 2;
+        wheel.schedule(20, handler, 1, null, 2);
+        wheel.advance(30f);
+
+        assertEquals(List.of(1, 2), delivered);
+        assertEquals(List.of(1), acted);
+    }
+}
@@ -0,0 +1,146 @@
+package com.skywarddash.utils;
+
+import com.badlogic.gdx.files.FileHandle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Builds small archives from files on disk and reads them back, through the raw index and through
+// AssetArchive's slices and file handles
+class AssetArchiveTest {
+    private static final String[] PATHS = {"sounds/jump.wav", "images/player.png", "empty.txt", "data.bin"};
+
+    @TempDir
+    File dir;
+
+    @Test
+    void indexListsEveryEntryBackToBack() throws IOException {
+        byte[][] contents = writeAssets();
+        File archiveFile = writeArchive();
+
+        try (DataInputStream in = new DataInputStream(new FileInputStream(archiveFile))) {
+            assertEquals(0x53445041, in.readInt(), "Magic");
+            assertEquals(1, in.readInt(), "Version");
+            assertEquals(PATHS.length, in.readInt(), "Entry count");
+            long indexEnd = 12;
+            for (String path : PATHS) {
+                indexEnd += 2 + path.length() + 8 + 4;
+            }
+            long offset = indexEnd;
+            for (int i = 0; i < PATHS.length; i++) {
+                assertEquals(PATHS[i], in.readUTF());
+                assertEquals(offset, in.readLong(), "Offset of " + PATHS[i]);
+                assertEquals(contents[i].length, in.readInt(), "Length of " + PATHS[i]);
+                offset += contents[i].length;
+            }
+            assertEquals(offset, archiveFile.length(), "Entries end the file");
+        }
+    }
+
+    @Test
+    void readsEveryEntryBack() throws IOException {
+        byte[][] contents = writeAssets();
+        AssetArchive archive = AssetArchive.open(writeArchive());
+
+        for (int i = 0; i < PATHS.length; i++) {
+            String path = PATHS[i];
+            assertTrue(archive.contains(path), path);
+
+            ByteBuffer slice = archive.slice(path);
+            assertEquals(contents[i].length, slice.remaining(), path);
+            byte[] sliced = new byte[slice.remaining()];
+            slice.get(sliced);
+            assertArrayEquals(contents[i], sliced, path);
+
+            FileHandle handle = archive.handle(path);
+            assertEquals(path, handle.path());
+            assertTrue(handle.exists());
+            assertEquals(contents[i].length, handle.length(), path);
+            assertArrayEquals(contents[i], handle.readBytes(), path);
+            assertArrayEquals(contents[i], readAll(handle.read()), path);
+            ByteBuffer mapped = handle.map(FileChannel.MapMode.READ_ONLY);
+            assertEquals(contents[i].length, mapped.remaining(), path);
+            assertThrows(RuntimeException.class, () -> handle.map(FileChannel.MapMode.READ_WRITE));
+        }
+
+        assertFalse(archive.contains("missing.png"));
+        assertNull(archive.slice("missing.png"));
+        assertNull(archive.handle("missing.png"));
+    }
+
+    @Test
+    void slicesDoNotShareAPosition() throws IOException {
+        writeAssets();
+        AssetArchive archive = AssetArchive.open(writeArchive());
+        ByteBuffer first = archive.slice("data.bin");
+        first.get(new byte[10]);
+        assertEquals(archive.slice("data.bin").remaining(), first.remaining() + 10);
+    }
+
+    @Test
+    void refusesMissingAssets() throws IOException {
+        writeAssets();
+        String[] paths = {"data.bin", "nope.png"};
+        assertThrows(IOException.class, () -> AssetArchive.write(dir, paths, new File(dir, "out.pak")));
+    }
+
+    @Test
+    void refusesFilesThatAreNotArchives() throws IOException {
+        writeAssets();
+        File notArchive = new File(dir, "data.bin");
+        assertThrows(IOException.class, () -> AssetArchive.open(notArchive));
+
+        // An index pointing past the end of the file
+        byte[] bytes = Files.readAllBytes(writeArchive().toPath());
+        File truncated = new File(dir, "truncated.pak");
+        Files.write(truncated.toPath(), Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> AssetArchive.open(truncated));
+    }
+
+    // Writes PATHS under the temp directory: random bytes, except for one empty file
+    private byte[][] writeAssets() throws IOException {
+        Random random = new Random(11);
+        byte[][] contents = new byte[PATHS.length][];
+        for (int i = 0; i < PATHS.length; i++) {
+            if (PATHS[i].equals("empty.txt")) {
+                contents[i] = new byte[0];
+            } else {
+                contents[i] = new byte[1 + random.nextInt(20000)];
+                random.nextBytes(contents[i]);
+            }
+            File file = new File(dir, PATHS[i]);
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), contents[i]);
+        }
+        return contents;
+    }
+
+    private File writeArchive() throws IOException {
+        File out = new File(dir, AssetArchive.FILE_NAME);
+        AssetArchive.write(dir, PATHS, out);
+        return out;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (InputStream stream = in) {
+            return stream.readAllBytes();
+        }
+    }
+}
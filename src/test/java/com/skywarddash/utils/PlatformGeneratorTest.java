@@ -0,0 +1,101 @@
+package com.skywarddash.utils;
+
+import com.skywarddash.entities.Platform;
+import com.skywarddash.entities.PlatformStore;
+import com.skywarddash.entities.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Background generation must build exactly the tower inline generation builds: chunks come from the
+// worker when it has them ready and are generated inline when it doesn't, and either way the
+// platforms and floor count have to match, including across restarts while chunks are in flight.
+class PlatformGeneratorTest {
+    private static final float CLIMB = 60000; // Roughly 450 floors
+    private static final float CLIMB_STEP = 700;
+    private static final float RETIRE_DISTANCE = 2160;
+
+    private PlatformGenerator inline;
+    private PlatformGenerator background;
+    private final Player player = new Player(0, 0);
+
+    @BeforeEach
+    void createGenerators() {
+        inline = new PlatformGenerator(1);
+        background = new PlatformGenerator(1);
+        background.enableBackgroundGeneration();
+    }
+
+    @AfterEach
+    void stopWorker() {
+        background.dispose();
+    }
+
+    @Test
+    void backgroundBuildsTheSameTowerAsInline() {
+        for (long seed = 1; seed <= 20; seed++) {
+            reset(seed);
+            climb(0, CLIMB, seed);
+        }
+    }
+
+    @Test
+    void handlesNegativeAndExtremeSeeds() {
+        for (long seed : new long[]{0, -1, Long.MIN_VALUE, Long.MAX_VALUE}) {
+            reset(seed);
+            climb(0, CLIMB / 4, seed);
+        }
+    }
+
+    @Test
+    void resetsWhileChunksAreInFlight() {
+        for (long seed = 100; seed < 140; seed++) {
+            // Ask for a few chunks, then restart before the worker can have delivered them all
+            reset(seed);
+            climb(0, CLIMB_STEP * (seed % 4), seed);
+            reset(seed + 1000);
+            assertSameTower(seed + 1000, 0);
+            // Restart onto the same seed mid-climb, then jump straight to a height the worker hasn't
+            // reached, so chunks come from both sides
+            climb(0, 5000, seed + 1000);
+            reset(seed + 1000);
+            climb(10000, 12000, seed + 1000);
+        }
+    }
+
+    private void reset(long seed) {
+        inline.reset(seed);
+        background.reset(seed);
+    }
+
+    private void climb(float from, float to, long seed) {
+        for (float y = from; y < to; y += CLIMB_STEP) {
+            player.reset(0, y);
+            inline.update(player);
+            background.update(player);
+            inline.retirePlatformsBelow(y - RETIRE_DISTANCE);
+            background.retirePlatformsBelow(y - RETIRE_DISTANCE);
+            assertSameTower(seed, y);
+        }
+    }
+
+    private void assertSameTower(long seed, float y) {
+        String where = " (seed " + seed + ", height " + y + ")";
+        PlatformStore expected = inline.getPlatforms();
+        PlatformStore actual = background.getPlatforms();
+        assertEquals(expected.size(), actual.size(), "Platform count" + where);
+        for (int i = 0; i < expected.size(); i++) {
+            Platform a = expected.get(i);
+            Platform b = actual.get(i);
+            String platform = "Platform " + i + where;
+            assertEquals(a.getX(), b.getX(), platform);
+            assertEquals(a.getY(), b.getY(), platform);
+            assertEquals(a.getWidth(), b.getWidth(), platform);
+            assertEquals(a.getType(), b.getType(), platform);
+        }
+        assertEquals(inline.getCurrentFloor(), background.getCurrentFloor(), "Floor" + where);
+        assertEquals(inline.getHighestPlatformY(), background.getHighestPlatformY(), "Top" + where);
+    }
+}
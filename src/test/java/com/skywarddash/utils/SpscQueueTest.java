@@ -0,0 +1,141 @@
+package com.skywarddash.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpscQueueTest {
+    @Test
+    void roundsCapacityUpToAPowerOfTwo() {
+        assertEquals(1, new SpscQueue<>(1).capacity());
+        assertEquals(8, new SpscQueue<>(5).capacity());
+        assertEquals(8, new SpscQueue<>(8).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new SpscQueue<>(0));
+    }
+
+    @Test
+    void pollReturnsNullWhenEmpty() {
+        SpscQueue<String> queue = new SpscQueue<>(4);
+        assertNull(queue.poll());
+        queue.offer("a");
+        assertEquals("a", queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void offerFailsWhenFull() {
+        SpscQueue<Integer> queue = new SpscQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertEquals(0, queue.poll());
+        assertTrue(queue.offer(4));
+        assertFalse(queue.offer(5));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertNull(queue.poll());
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(null));
+    }
+
+    @Test
+    void keepsOrderAcrossWraparound() {
+        SpscQueue<Integer> queue = new SpscQueue<>(4);
+        int next = 0;
+        int expected = 0;
+        // Uneven batches so the head and tail wrap at different offsets
+        for (int round = 0; round < 1000; round++) {
+            int batch = 1 + round % 4;
+            for (int i = 0; i < batch; i++) {
+                assertTrue(queue.offer(next++));
+            }
+            int drain = round % 3 == 0 ? batch - 1 : batch;
+            for (int i = 0; i < drain; i++) {
+                assertEquals(expected++, queue.poll());
+            }
+            while (queue.capacity() - (next - expected) < 4) {
+                assertEquals(expected++, queue.poll());
+            }
+        }
+        Integer item;
+        while ((item = queue.poll()) != null) {
+            assertEquals(expected++, item);
+        }
+        assertEquals(next, expected);
+    }
+
+    private static final class Item {
+        int value;
+    }
+
+    // The pattern TowerGenerationWorker uses: a pool of items circulates between two threads through
+    // a pair of queues, the producer filling them and the consumer handing them back
+    @Test
+    void recyclesItemsBetweenTwoThreads() throws Exception {
+        final int poolSize = 8;
+        final int count = 100_000;
+        SpscQueue<Item> free = new SpscQueue<>(poolSize);
+        SpscQueue<Item> ready = new SpscQueue<>(poolSize);
+        Item[] pool = new Item[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            pool[i] = new Item();
+            free.offer(pool[i]);
+        }
+
+        AtomicReference<Throwable> producerError = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            try {
+                for (int value = 0; value < count; value++) {
+                    Item item;
+                    while ((item = free.poll()) == null) {
+                        Thread.yield(); // Lets the other side run on a single core
+                    }
+                    item.value = value;
+                    while (!ready.offer(item)) {
+                        Thread.yield();
+                    }
+                }
+            } catch (Throwable t) {
+                producerError.set(t);
+            }
+        });
+        producer.start();
+
+        for (int expected = 0; expected < count; expected++) {
+            Item item;
+            while ((item = ready.poll()) == null) {
+                Thread.yield();
+            }
+            assertEquals(expected, item.value);
+            assertTrue(free.offer(item), "The free queue can always take back a pool item");
+        }
+        producer.join(10000);
+        assertFalse(producer.isAlive());
+        assertNull(producerError.get());
+
+        // Every pool item is back, and no other object ever went through
+        assertNull(ready.poll());
+        boolean[] returned = new boolean[poolSize];
+        Item item;
+        while ((item = free.poll()) != null) {
+            int index = -1;
+            for (int i = 0; i < poolSize; i++) {
+                if (pool[i] == item) {
+                    index = i;
+                }
+            }
+            assertTrue(index >= 0 && !returned[index]);
+            returned[index] = true;
+        }
+        for (boolean back : returned) {
+            assertTrue(back);
+        }
+    }
+}